@@ -0,0 +1,4 @@
+-- 정원 검사는 애플리케이션 좌석 예약 엔진(EventSeatReservationService)이 Redis 카운터로 담당 (모든 노드 공유)
+-- 참가 신청마다 참가자 행을 다시 세던 트리거 제거
+DROP TRIGGER IF EXISTS tr_check_event_capacity ON event_participants;
+DROP FUNCTION IF EXISTS check_event_capacity();
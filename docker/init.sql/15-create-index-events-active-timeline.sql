@@ -0,0 +1,9 @@
+-- 활성 이벤트 타임라인 적재용 부분 인덱스
+-- 타임라인 인덱스(EventTimelineIndex) 재구성 시 활성 이벤트를 (start_datetime, id) 순으로 읽는 쿼리
+-- (EventRepository.findActiveSnapshots, 활성 이벤트 목록 캐시 적재)를 정렬 없이 인덱스 순서대로 처리
+CREATE INDEX IF NOT EXISTS idx_events_active_start
+    ON events (start_datetime, id)
+    WHERE is_active = true;
+
+-- 선두 컬럼이 boolean이라 범위 조건에 쓰이지 않던 인덱스 제거 (위 부분 인덱스로 대체)
+DROP INDEX IF EXISTS idx_events_active_datetime;
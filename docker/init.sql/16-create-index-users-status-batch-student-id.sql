@@ -0,0 +1,3 @@
+-- 사용자 목록 키셋 페이지네이션용 인덱스 (status 필터 + (batch, student_id) 순 정렬/탐색)
+CREATE INDEX IF NOT EXISTS idx_users_status_batch_student_id
+    ON users (status, batch, student_id);
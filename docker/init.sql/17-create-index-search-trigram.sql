@@ -0,0 +1,18 @@
+-- 사용자/합주 검색용 pg_trgm 인덱스
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- 부분 일치 (3글자 이상)
+CREATE INDEX IF NOT EXISTS idx_users_username_trgm ON users USING gin (username gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_users_student_id_trgm ON users USING gin (student_id gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_users_email_trgm ON users USING gin (lower(email) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_ensembles_artist_trgm ON ensembles USING gin (lower(artist) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_ensembles_title_trgm ON ensembles USING gin (lower(title) gin_trgm_ops);
+
+-- 접두사 일치 (1~2글자, 이름 / 성을 뺀 이름 / 학번)
+CREATE INDEX IF NOT EXISTS idx_users_username_prefix ON users (username varchar_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_users_given_name_prefix ON users (substr(username, 2) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_users_student_id_prefix ON users (student_id varchar_pattern_ops);
+
+CREATE INDEX IF NOT EXISTS idx_ensembles_artist_prefix ON ensembles (lower(artist) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_ensembles_title_prefix ON ensembles (lower(title) text_pattern_ops);
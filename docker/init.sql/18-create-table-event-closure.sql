@@ -0,0 +1,130 @@
+-- 이벤트 계층 클로저 테이블 (조상-자손 모든 쌍, 자기 자신은 distance 0)
+-- 하위 트리/조상/최상위 이벤트를 인덱스 조회 한 번으로 구한다. 트리거로 생성/이동 시 유지하고, 삭제는 FK cascade로 정리된다.
+CREATE TABLE IF NOT EXISTS event_closure (
+    ancestor_id INTEGER NOT NULL REFERENCES events(id) ON DELETE CASCADE,
+    descendant_id INTEGER NOT NULL REFERENCES events(id) ON DELETE CASCADE,
+    distance INTEGER NOT NULL CHECK (distance >= 0),
+    PRIMARY KEY (ancestor_id, descendant_id)
+);
+
+-- 조상/최상위 조회용 (자손 기준, 거리 순)
+CREATE INDEX IF NOT EXISTS idx_event_closure_descendant
+    ON event_closure (descendant_id, distance);
+
+-- 이벤트 생성 시 자기 자신과 상위 이벤트의 모든 조상 경로 추가
+CREATE OR REPLACE FUNCTION maintain_event_closure_on_insert()
+    RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO event_closure (ancestor_id, descendant_id, distance)
+    VALUES (NEW.id, NEW.id, 0);
+
+    IF NEW.parent_event IS NOT NULL THEN
+        INSERT INTO event_closure (ancestor_id, descendant_id, distance)
+        SELECT c.ancestor_id, NEW.id, c.distance + 1
+        FROM event_closure c
+        WHERE c.descendant_id = NEW.parent_event;
+    END IF;
+
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 상위 이벤트 변경(이동) 시 하위 트리 전체를 새 조상 아래로 옮김
+CREATE OR REPLACE FUNCTION maintain_event_closure_on_move()
+    RETURNS TRIGGER AS $$
+BEGIN
+    -- 기존 조상 → 하위 트리 경로 제거 (하위 트리 내부 경로는 유지)
+    DELETE FROM event_closure c
+    USING event_closure sub, event_closure sup
+    WHERE sub.ancestor_id = NEW.id
+      AND sup.descendant_id = NEW.id
+      AND sup.distance > 0
+      AND c.descendant_id = sub.descendant_id
+      AND c.ancestor_id = sup.ancestor_id;
+
+    -- 새 조상 → 하위 트리 경로 추가
+    IF NEW.parent_event IS NOT NULL THEN
+        INSERT INTO event_closure (ancestor_id, descendant_id, distance)
+        SELECT sup.ancestor_id, sub.descendant_id, sup.distance + sub.distance + 1
+        FROM event_closure sup
+        CROSS JOIN event_closure sub
+        WHERE sup.descendant_id = NEW.parent_event
+          AND sub.ancestor_id = NEW.id;
+    END IF;
+
+    -- 하위 트리의 depth/root_event를 새 경로 기준으로 갱신 (최상위 이벤트는 root_event 없음, 캐시 무효화를 위해 version 증가)
+    UPDATE events e
+    SET depth = r.depth,
+        root_event = CASE WHEN r.depth = 0 THEN NULL ELSE r.root_id END,
+        version = e.version + 1,
+        updated_at = current_timestamp
+    FROM (
+        SELECT c.descendant_id,
+               max(c.distance) AS depth,
+               (array_agg(c.ancestor_id ORDER BY c.distance DESC))[1] AS root_id
+        FROM event_closure c
+        WHERE c.descendant_id IN (SELECT descendant_id FROM event_closure WHERE ancestor_id = NEW.id)
+        GROUP BY c.descendant_id
+    ) r
+    WHERE e.id = r.descendant_id
+      AND (e.depth IS DISTINCT FROM r.depth
+           OR e.root_event IS DISTINCT FROM CASE WHEN r.depth = 0 THEN NULL ELSE r.root_id END);
+
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER tr_event_closure_insert
+    AFTER INSERT ON events
+    FOR EACH ROW EXECUTE FUNCTION maintain_event_closure_on_insert();
+
+CREATE TRIGGER tr_event_closure_move
+    AFTER UPDATE OF parent_event ON events
+    FOR EACH ROW
+    WHEN (OLD.parent_event IS DISTINCT FROM NEW.parent_event)
+    EXECUTE FUNCTION maintain_event_closure_on_move();
+
+-- 기존 이벤트 적재
+INSERT INTO event_closure (ancestor_id, descendant_id, distance)
+WITH RECURSIVE paths AS (
+    SELECT id AS ancestor_id, id AS descendant_id, 0 AS distance FROM events
+    UNION ALL
+    SELECT p.ancestor_id, e.id, p.distance + 1
+    FROM paths p
+    JOIN events e ON e.parent_event = p.descendant_id
+)
+SELECT ancestor_id, descendant_id, distance FROM paths
+ON CONFLICT DO NOTHING;
+
+-- 최상위 이벤트의 직계 하위 이벤트에 비어 있던 root_event 보정
+UPDATE events e
+SET root_event = r.ancestor_id,
+    version = e.version + 1,
+    updated_at = current_timestamp
+FROM (
+    SELECT DISTINCT ON (descendant_id) descendant_id, ancestor_id
+    FROM event_closure
+    ORDER BY descendant_id, distance DESC
+) r
+WHERE e.id = r.descendant_id
+  AND e.parent_event IS NOT NULL
+  AND e.root_event IS DISTINCT FROM r.ancestor_id;
+
+-- 참가 자격 검사: 참가자는 항상 최상위 이벤트에 저장되므로 하위 이벤트 승인 검사는 제거하고 사용자 상태만 확인
+CREATE OR REPLACE FUNCTION validate_participation_eligibility()
+    RETURNS TRIGGER AS $$
+DECLARE
+    v_user_status VARCHAR(20);
+BEGIN
+    -- 사용자 상태 확인
+    SELECT status INTO v_user_status
+    FROM users WHERE id = NEW.user_id;
+
+    -- 활성 사용자만 참가 가능
+    IF v_user_status != 'ACTIVE' THEN
+        RAISE EXCEPTION 'Only active users can participate in events';
+    END IF;
+
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
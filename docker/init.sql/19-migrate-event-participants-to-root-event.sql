@@ -0,0 +1,66 @@
+-- 참가는 최상위 이벤트 기준이므로, root_event가 비어 있어 하위 이벤트에 저장된 참가자를 최상위 이벤트로 이동
+-- 삭제/이동되는 행은 모두 보관 테이블에 원본 그대로 남긴 뒤 변경한다 (18의 root_event 보정 이후 실행)
+CREATE TABLE IF NOT EXISTS event_participants_merged_archive (
+    id INTEGER NOT NULL,
+    event_id INTEGER NOT NULL,
+    user_id INTEGER NOT NULL,
+    applied_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE,
+    updated_at TIMESTAMP WITH TIME ZONE,
+    version INTEGER NOT NULL,
+    root_event_id INTEGER NOT NULL,
+    reason VARCHAR(20) NOT NULL CHECK (reason IN ('DUPLICATE', 'MOVED')),
+    archived_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT current_timestamp
+);
+
+-- 같은 사용자가 최상위 이벤트와 하위 이벤트(또는 여러 하위 이벤트)에 모두 있으면 가장 먼저 신청한 행만 남김
+CREATE TEMPORARY TABLE event_participants_duplicates AS
+SELECT d.id, d.root_event_id
+FROM (
+    SELECT p.id,
+           COALESCE(e.root_event, e.id) AS root_event_id,
+           row_number() OVER (PARTITION BY COALESCE(e.root_event, e.id), p.user_id ORDER BY p.applied_at, p.id) AS rn
+    FROM event_participants p
+    JOIN events e ON e.id = p.event_id
+) d
+WHERE d.rn > 1;
+
+INSERT INTO event_participants_merged_archive
+    (id, event_id, user_id, applied_at, created_at, updated_at, version, root_event_id, reason)
+SELECT ep.id, ep.event_id, ep.user_id, ep.applied_at, ep.created_at, ep.updated_at, ep.version, d.root_event_id, 'DUPLICATE'
+FROM event_participants ep
+JOIN event_participants_duplicates d ON d.id = ep.id;
+
+DELETE FROM event_participants ep
+USING event_participants_duplicates d
+WHERE ep.id = d.id;
+
+DROP TABLE event_participants_duplicates;
+
+-- 하위 이벤트에 남은 참가자는 이동 전 원본을 보관하고 최상위 이벤트로 옮김
+INSERT INTO event_participants_merged_archive
+    (id, event_id, user_id, applied_at, created_at, updated_at, version, root_event_id, reason)
+SELECT ep.id, ep.event_id, ep.user_id, ep.applied_at, ep.created_at, ep.updated_at, ep.version, e.root_event, 'MOVED'
+FROM event_participants ep
+JOIN events e ON e.id = ep.event_id
+WHERE e.root_event IS NOT NULL;
+
+UPDATE event_participants ep
+SET event_id = e.root_event,
+    version = ep.version + 1,
+    updated_at = current_timestamp
+FROM events e
+WHERE e.id = ep.event_id
+  AND e.root_event IS NOT NULL;
+
+-- 이동 후 참가자 수 재계산 (하위 이벤트는 0)
+UPDATE events e
+SET current_participants = c.participants
+FROM (
+    SELECT ev.id, count(ep.id) AS participants
+    FROM events ev
+    LEFT JOIN event_participants ep ON ep.event_id = ev.id
+    GROUP BY ev.id
+) c
+WHERE e.id = c.id
+  AND e.current_participants IS DISTINCT FROM c.participants;
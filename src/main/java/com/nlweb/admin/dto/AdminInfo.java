@@ -33,4 +33,18 @@ public class AdminInfo {
                 .updatedAt(admin.getUpdatedAt())
                 .build();
     }
+
+    public static AdminInfo fromSnapshot(AdminSnapshot admin, boolean includePrivateInfo) {
+        return AdminInfo.builder()
+                .studentId(includePrivateInfo ? admin.studentId() : null)
+                .username(admin.username())
+                .batch(admin.batch())
+                .phone(admin.phone())
+                .role(admin.role())
+                .appointedBy(admin.appointedBy())
+                .appointmentReason(admin.appointmentReason())
+                .createdAt(admin.createdAt())
+                .updatedAt(admin.updatedAt())
+                .build();
+    }
 }
@@ -0,0 +1,39 @@
+package com.nlweb.admin.dto;
+
+import com.nlweb.admin.entity.Admin;
+import com.nlweb.user.entity.User;
+import java.time.LocalDateTime;
+
+/** 캐시 저장용 관리자 스냅샷 */
+public record AdminSnapshot(
+        Long id,
+        Long userId,
+        String studentId,
+        String username,
+        Integer batch,
+        String phone,
+        String role,
+        String appointedBy,
+        String appointmentReason,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+
+    public static AdminSnapshot from(Admin admin) {
+        User user = admin.getUser();
+        return new AdminSnapshot(
+                admin.getId(),
+                user.getId(),
+                user.getStudentId(),
+                user.getUsername(),
+                user.getBatch(),
+                user.getPhone(),
+                admin.getRole(),
+                admin.getAppointedBy(),
+                admin.getAppointmentReason(),
+                admin.getCreatedAt(),
+                admin.getUpdatedAt()
+        );
+    }
+
+}
@@ -11,7 +11,7 @@ public class UpdateUserStatusRequest {
     private List<String> studentIds;
 
     @NotNull
-    @Pattern(regexp = "approve|reject|activate|decativate|suspend", message = "유효하지 않은 action 값입니다.")
+    @Pattern(regexp = "approve|reject|activate|deactivate|suspend", message = "유효하지 않은 action 값입니다.")
     private String action;
 
     private String reason;
@@ -1,5 +1,6 @@
 package com.nlweb.admin.repository;
 
+import com.nlweb.admin.dto.AdminSnapshot;
 import com.nlweb.admin.entity.Admin;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -11,15 +12,19 @@ import java.util.Optional;
 @Repository
 public interface AdminRepository extends JpaRepository<Admin, Long> {
 
-    /** 모든 관리자 조회 */
-    @Query("SELECT a FROM Admin a ORDER BY a.createdAt")
-    List<Admin> findAllAdmins();
+    /** 모든 관리자 조회 (엔티티 생성 없이 스냅샷에 필요한 컬럼만 조회) */
+    @Query("SELECT new com.nlweb.admin.dto.AdminSnapshot(" +
+            "a.id, u.id, u.studentId, u.username, u.batch, u.phone, a.role, a.appointedBy, a.appointmentReason, " +
+            "a.createdAt, a.updatedAt) " +
+            "FROM Admin a JOIN a.user u ORDER BY a.createdAt")
+    List<AdminSnapshot> findAllAdminSnapshots();
 
     /** 사용자 ID로 관리자 조회 */
-    Optional<Admin> findByUserId(Long userId);
+    @Query("SELECT a FROM Admin a JOIN FETCH a.user u WHERE u.id = :userId")
+    Optional<Admin> findByUserId(@Param("userId") Long userId);
 
     /** 학생 ID로 관리자 조회 */
-    @Query("SELECT a FROM Admin a JOIN a.user u WHERE u.studentId =: studentId")
+    @Query("SELECT a FROM Admin a JOIN FETCH a.user u WHERE u.studentId = :studentId")
     Optional<Admin> findByStudentId(@Param("studentId") String studentId);
 
     /** 학생 ID로 관리자 존재 여부 확인 */
@@ -0,0 +1,147 @@
+package com.nlweb.admin.service;
+
+import com.nlweb.admin.dto.AdminSnapshot;
+import com.nlweb.admin.repository.AdminRepository;
+import com.nlweb.common.cache.CacheEvictions;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 관리자 권한 레지스트리
+ * <p>
+ * 관리자 수는 매우 적으므로 전체 관리자를 한 번에 읽어 학번/사용자 ID → 관리자 스냅샷의 불변 맵으로 보관하고,
+ * 관리자 생성/수정/삭제 커밋 후 새 스냅샷으로 통째로 교체한다. 권한 확인은 잠금 없는 맵 조회이며 Redis/DB를 거치지 않는다.
+ * 다른 노드에는 Redis pub/sub으로 재적재를 알리고, 메시지 유실에 대비해 주기적으로도 재적재한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AdminAuthorityRegistry {
+
+    private static final String RELOAD_CHANNEL = "nlweb:admin:authorities";
+
+    private final AdminRepository adminRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final CacheEvictions cacheEvictions;
+
+    private volatile Authorities authorities;
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener((message, pattern) -> reload(), new ChannelTopic(RELOAD_CHANNEL));
+    }
+
+    /** 시작 시 적재 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reload();
+    }
+
+    /** 관리자 여부 (학번) */
+    public boolean isAdmin(String studentId) {
+        return studentId != null && current().byStudentId.containsKey(studentId);
+    }
+
+    /** 관리자 여부 (사용자 ID) */
+    public boolean isAdmin(Long userId) {
+        return userId != null && current().byUserId.containsKey(userId);
+    }
+
+    /** 관리자 조회 (학번) */
+    public AdminSnapshot findByStudentId(String studentId) {
+        return studentId != null ? current().byStudentId.get(studentId) : null;
+    }
+
+    /** 관리자 조회 (사용자 ID) */
+    public AdminSnapshot findByUserId(Long userId) {
+        return userId != null ? current().byUserId.get(userId) : null;
+    }
+
+    /** 전체 관리자 (임명 순) */
+    public List<AdminSnapshot> findAll() {
+        return current().all;
+    }
+
+    /** 관리자 변경 커밋 후 재적재 및 다른 노드에 전파 */
+    public void reloadAfterCommit() {
+        cacheEvictions.afterCommit(() -> {
+            reload();
+            publish();
+        });
+    }
+
+    /** 전체 관리자 재적재 (메시지 유실 보정) */
+    @Scheduled(fixedDelayString = "${nlweb.admin.authority-refresh-interval-ms:300000}",
+            initialDelayString = "${nlweb.admin.authority-refresh-interval-ms:300000}")
+    public void reload() {
+        try {
+            List<AdminSnapshot> admins = transactionTemplate.execute(status -> adminRepository.findAllAdminSnapshots());
+            authorities = new Authorities(admins != null ? admins : List.of());
+            log.debug("관리자 권한 레지스트리 적재: {}명", authorities.all.size());
+        } catch (Exception e) {
+            log.warn("관리자 권한 레지스트리 적재 실패: {}", e.getMessage());
+            if (authorities == null) {
+                throw e;
+            }
+        }
+    }
+
+    // ========================== Private Methods ==========================
+
+    private Authorities current() {
+        Authorities current = authorities;
+        if (current == null) {
+            synchronized (this) {
+                if (authorities == null) {
+                    reload();
+                }
+                current = authorities;
+            }
+        }
+        return current;
+    }
+
+    private void publish() {
+        try {
+            stringRedisTemplate.convertAndSend(RELOAD_CHANNEL, "reload");
+        } catch (Exception e) {
+            log.warn("관리자 권한 변경 메시지 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    /** 불변 권한 스냅샷 */
+    private static final class Authorities {
+
+        private final List<AdminSnapshot> all;
+        private final Map<String, AdminSnapshot> byStudentId;
+        private final Map<Long, AdminSnapshot> byUserId;
+
+        private Authorities(List<AdminSnapshot> admins) {
+            Map<String, AdminSnapshot> studentIds = new HashMap<>();
+            Map<Long, AdminSnapshot> userIds = new HashMap<>();
+            for (AdminSnapshot admin : admins) {
+                studentIds.put(admin.studentId(), admin);
+                userIds.put(admin.userId(), admin);
+            }
+
+            this.all = List.copyOf(admins);
+            this.byStudentId = Map.copyOf(studentIds);
+            this.byUserId = Map.copyOf(userIds);
+        }
+    }
+
+}
@@ -1,61 +1,43 @@
 package com.nlweb.admin.service;
 
-import com.nlweb.admin.entity.Admin;
-import com.nlweb.admin.repository.AdminRepository;
+import com.nlweb.admin.dto.AdminSnapshot;
 import lombok.*;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.Optional;
 
+/** 관리자 조회 (메모리 권한 레지스트리 기반, Redis/DB 조회 없음) */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class AdminCacheService {
 
-    private final AdminRepository adminRepository;
+    private final AdminAuthorityRegistry adminAuthorityRegistry;
 
-    @Cacheable(value = "admins:active")
-    public List<Admin> getAllAdmins() {
-        return adminRepository.findAllAdmins();
+    public List<AdminSnapshot> getAllAdmins() {
+        return adminAuthorityRegistry.findAll();
     }
 
-    @Cacheable(value = "admin", key = "'exists:userId:' + #userId")
     public boolean isAdmin(Long userId) {
-        return adminRepository.existsByUserId(userId);
+        return adminAuthorityRegistry.isAdmin(userId);
     }
 
-    @Cacheable(value = "admin", key = "'exists:studentId:' + #studentId")
     public boolean isAdmin(String studentId) {
-        return adminRepository.existsByStudentId(studentId);
+        return adminAuthorityRegistry.isAdmin(studentId);
     }
 
-    @Cacheable(value = "admin", key = "'userId:' + #userId")
-    public Optional<Admin> getAdmin(Long userId) {
-        return adminRepository.findByUserId(userId);
+    public Optional<AdminSnapshot> getAdmin(Long userId) {
+        return Optional.ofNullable(adminAuthorityRegistry.findByUserId(userId));
     }
 
-    @Cacheable(value = "admin", key = "'studentId:' + #studentId")
-    public Optional<Admin> getAdmin(String studentId) {
-        return adminRepository.findByStudentId(studentId);
+    public Optional<AdminSnapshot> getAdmin(String studentId) {
+        return Optional.ofNullable(adminAuthorityRegistry.findByStudentId(studentId));
     }
 
-    @CacheEvict(value = {"admin", "admins:active"}, allEntries = true)
-    public void evictAllAdminsCache() {
-        log.debug("모든 관리자 캐시 삭제");
-    }
-
-    @CacheEvict(value = {"admin"}, key = "'userId:' + #userId")
-    public void evictAdminCache(Long userId) {
-        log.debug("관리자 캐시 삭제: Id = {}", userId);
-    }
-
-    @CacheEvict(value = {"admin"}, key = "'studentId:' + #studentId")
-    public void evictAdminCache(String studentId) {
-        log.debug("관리자 캐시 삭제: studentId = {}", studentId);
+    /** 관리자 변경 커밋 후 레지스트리 재적재 */
+    public void refreshAfterCommit() {
+        adminAuthorityRegistry.reloadAfterCommit();
+        log.debug("관리자 권한 레지스트리 재적재 예약");
     }
 }
@@ -4,10 +4,14 @@ import com.nlweb.admin.dto.*;
 import com.nlweb.admin.entity.Admin;
 import com.nlweb.user.entity.User;
 import com.nlweb.user.dto.UserInfo;
+import com.nlweb.user.dto.UserSnapshot;
 import com.nlweb.common.enums.UserStatus;
 import com.nlweb.common.exception.user.UserNotFoundException;
+import com.nlweb.event.service.EventParticipantCacheService;
 import com.nlweb.admin.repository.AdminRepository;
+import com.nlweb.user.repository.UserBulkRepository;
 import com.nlweb.user.repository.UserRepository;
+import com.nlweb.user.service.SecurityStampService;
 import com.nlweb.user.service.UserCacheService;
 import lombok.*;
 import lombok.extern.slf4j.Slf4j;
@@ -26,12 +30,15 @@ public class AdminService {
     private final UserCacheService userCacheService;
     private final AdminRepository adminRepository;
     private final UserRepository userRepository;
+    private final UserBulkRepository userBulkRepository;
+    private final SecurityStampService securityStampService;
+    private final EventParticipantCacheService eventParticipantCacheService;
 
     /** 모든 관리자 조회 */
     public List<AdminInfo> getAllAdmins(Boolean includePrivateInfo) {
         return adminCacheService.getAllAdmins()
                 .stream()
-                .map(admin -> AdminInfo.fromEntity(admin, includePrivateInfo))
+                .map(admin -> AdminInfo.fromSnapshot(admin, includePrivateInfo))
                 .toList();
     }
 
@@ -47,22 +54,22 @@ public class AdminService {
 
     /** 학생 ID로 관리자 조회 */
     public Optional<AdminInfo> getAdminByStudentId(String studentId, boolean includePrivateInfo) {
-        return adminCacheService.getAdmin(studentId).map(admin -> AdminInfo.fromEntity(admin, includePrivateInfo));
+        return adminCacheService.getAdmin(studentId).map(admin -> AdminInfo.fromSnapshot(admin, includePrivateInfo));
     }
 
     /** 사용자 ID로 관리자 조회 */
     public Optional<AdminInfo> getAdminByUserId(Long userId, boolean includePrivateInfo) {
-        return adminCacheService.getAdmin(userId).map(admin -> AdminInfo.fromEntity(admin, includePrivateInfo));
+        return adminCacheService.getAdmin(userId).map(admin -> AdminInfo.fromSnapshot(admin, includePrivateInfo));
     }
 
     /** 관리자 생성 */
     @Transactional
     public CreateAdminResponse createAdmin(String studentId, String appointedBy, CreateAdminRequest createAdminRequest) {
 
-        User user = userCacheService.getUserByStudentId(studentId)
+        User user = userRepository.findByStudentId(studentId)
                 .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다: " + studentId));
 
-        User appointer = null;
+        UserSnapshot appointer = null;
 
         if (!Objects.equals(appointedBy, "SYSTEM")) {
             appointer = userCacheService.getUserByStudentId(appointedBy)
@@ -84,13 +91,15 @@ public class AdminService {
         Admin admin = Admin.builder()
                 .user(user)
                 .role(createAdminRequest.getRole())
-                .appointedBy(appointer != null ? appointer.getStudentId() : "SYSTEM")
+                .appointedBy(appointer != null ? appointer.studentId() : "SYSTEM")
                 .appointmentReason(createAdminRequest.getAppointmentReason())
                 .build();
 
         Admin savedAdmin = adminRepository.save(admin);
 
-        adminCacheService.evictAllAdminsCache();
+        adminCacheService.refreshAfterCommit();
+        eventParticipantCacheService.evictEventDetailsOfUsers(List.of(user.getId()));
+        securityStampService.rotateAfterCommit(List.of(user.getStudentId()));
 
         log.info("새로운 관리자 임명: {} ({}) - 역할: {}, 임명자: {}, 임명 이유: {}",
                 user.getUsername(), user.getStudentId(), savedAdmin.getRole(),
@@ -102,15 +111,16 @@ public class AdminService {
     /** 관리자 수정 */
     @Transactional
     public UpdateAdminResponse updateAdmin(String studentId, UpdateAdminRequest updateAdminRequest) {
-        Admin admin = adminCacheService.getAdmin(studentId)
+        Admin admin = adminRepository.findByStudentId(studentId)
                 .orElseThrow(() -> new IllegalArgumentException("관리자 정보를 찾을 수 없습니다: " + studentId));
 
         admin.setRole(updateAdminRequest.getRole());
 
         Admin updatedAdmin = adminRepository.save(admin);
 
-        adminCacheService.evictAdminCache(studentId);
-        adminCacheService.evictAllAdminsCache();
+        adminCacheService.refreshAfterCommit();
+        eventParticipantCacheService.evictEventDetailsOfUsers(List.of(admin.getUser().getId()));
+        securityStampService.rotateAfterCommit(List.of(studentId));
 
         log.info("관리자 정보 업데이트: {} - 새로운 역할: {}", updatedAdmin.getUser().getStudentId(), updatedAdmin.getRole());
 
@@ -120,13 +130,14 @@ public class AdminService {
     /** 관리자 삭제 */
     @Transactional
     public void deleteAdmin(String studentId, String removedBy, DeleteAdminRequest deleteAdminRequest) {
-        Admin admin = adminCacheService.getAdmin(studentId)
+        Admin admin = adminRepository.findByStudentId(studentId)
                 .orElseThrow(() -> new IllegalArgumentException("관리자 정보를 찾을 수 없습니다: " + studentId));
 
         adminRepository.delete(admin);
 
-        adminCacheService.evictAdminCache(studentId);
-        adminCacheService.evictAllAdminsCache();
+        adminCacheService.refreshAfterCommit();
+        eventParticipantCacheService.evictEventDetailsOfUsers(List.of(admin.getUser().getId()));
+        securityStampService.rotateAfterCommit(List.of(studentId));
 
         log.info("관리자 삭제: {} - 삭제자: {}, 이유: {}",
                 studentId,
@@ -134,41 +145,69 @@ public class AdminService {
                 deleteAdminRequest.getReason());
     }
 
-    /** 사용자 상태 업데이트 (승인, 거부, 활성화, 비활성화, 금지) */
+    /** 사용자 상태 일괄 업데이트 (승인, 거부, 활성화, 비활성화, 금지) */
     @Transactional
     public UpdateUserStatusResponse updateUsersStatuses(String studentId, UpdateUserStatusRequest request) {
-        List<User> users = userCacheService.getUsersByStudentIds(request.getStudentIds());
+        UserStatus targetStatus = targetStatusOf(request.getAction());
+        List<String> requestedIds = request.getStudentIds().stream().distinct().toList();
+
+        List<UserSnapshot> users = userRepository.findSnapshotsByStudentIdIn(requestedIds);
+
         List<UserInfo> successedUsers = new ArrayList<>();
         List<UpdateUserStatusResponse.FailedInfo> errors = new ArrayList<>();
 
         Set<String> foundStudentIds = users.stream()
-                .map(User::getStudentId)
+                .map(UserSnapshot::studentId)
                 .collect(Collectors.toSet());
 
-        request.getStudentIds().stream()
+        requestedIds.stream()
                 .filter(id -> !foundStudentIds.contains(id))
                 .forEach(id -> errors.add(new UpdateUserStatusResponse.FailedInfo(
                         id, "사용자를 찾을 수 없습니다: " + id)));
 
-        for (User user : users) {
+        // 1. 메모리에서 전이 검증 후 현재 상태별로 묶기
+        Map<UserStatus, List<UserSnapshot>> transitions = new EnumMap<>(UserStatus.class);
+        for (UserSnapshot user : users) {
             try {
                 validateStatusTransition(user, request.getAction());
-                updateUserStatusInternal(user, request.getAction(), request.getReason());
-                successedUsers.add(UserInfo.fromEntity(user, true));
-            } catch (Exception e) {
-                errors.add(new UpdateUserStatusResponse.FailedInfo(user.getStudentId(), e.getMessage()));
+                transitions.computeIfAbsent(user.status(), status -> new ArrayList<>()).add(user);
+            } catch (IllegalStateException | IllegalArgumentException e) {
+                errors.add(new UpdateUserStatusResponse.FailedInfo(user.studentId(), e.getMessage()));
+            }
+        }
+
+        // 2. (현재 상태 → 목표 상태) 묶음마다 UPDATE 한 번, 실제로 바뀐 행만 성공 처리
+        List<UserSnapshot> changedUsers = new ArrayList<>();
+        for (Map.Entry<UserStatus, List<UserSnapshot>> transition : transitions.entrySet()) {
+            List<String> studentIds = transition.getValue().stream().map(UserSnapshot::studentId).toList();
+            Set<String> updatedIds = new HashSet<>(
+                    userBulkRepository.updateStatuses(studentIds, transition.getKey(), targetStatus));
+
+            for (UserSnapshot user : transition.getValue()) {
+                if (!updatedIds.contains(user.studentId())) {
+                    errors.add(new UpdateUserStatusResponse.FailedInfo(
+                            user.studentId(), "처리 중 사용자 상태가 변경되었습니다: " + user.studentId()));
+                    continue;
+                }
+
+                UserInfo userInfo = UserInfo.fromSnapshot(user, true);
+                userInfo.setStatus(targetStatus.toString());
+                successedUsers.add(userInfo);
+                changedUsers.add(user);
             }
         }
 
-        if (!successedUsers.isEmpty()) {
-            userRepository.saveAll(users.stream()
-                    .filter(user -> successedUsers.stream()
-                    .anyMatch(successUser -> successUser.getStudentId().equals(user.getStudentId())))
-                    .toList());
+        // 3. 바뀐 사용자와 관련 목록 캐시만 무효화
+        if (!changedUsers.isEmpty()) {
+            Set<UserStatus> changedStatuses = EnumSet.of(targetStatus);
+            changedStatuses.addAll(transitions.keySet());
+            userCacheService.evictUsersAfterChange(changedUsers, changedStatuses);
+            eventParticipantCacheService.evictEventDetailsOfUsers(changedUsers.stream().map(UserSnapshot::id).toList());
+            securityStampService.rotateAfterCommit(changedUsers.stream().map(UserSnapshot::studentId).toList());
         }
 
-        userCacheService.evictAllActiveUsersCache();
-        userCacheService.evictAllPendingUsersCache();
+        log.info("사용자 상태 일괄 변경: 처리자={}, 액션={}, 성공={}, 실패={}, 이유: {}",
+                studentId, request.getAction(), successedUsers.size(), errors.size(), request.getReason());
 
         return UpdateUserStatusResponse.builder()
                 .successUsers(successedUsers)
@@ -181,48 +220,45 @@ public class AdminService {
 
     // ========================== Private Methods ==========================
 
-    private void validateStatusTransition(User user, String action) {
+    private void validateStatusTransition(UserSnapshot user, String action) {
         switch (action) {
             case "approve" -> {
-                if (user.getStatus() != UserStatus.PENDING) {
-                    throw new IllegalStateException("승인 대기 중인 사용자만 승인할 수 있습니다: " + user.getStudentId());
+                if (user.status() != UserStatus.PENDING) {
+                    throw new IllegalStateException("승인 대기 중인 사용자만 승인할 수 있습니다: " + user.studentId());
                 }
             }
             case "reject" -> {
-                if (user.getStatus() != UserStatus.PENDING) {
-                    throw new IllegalStateException("승인 대기 중인 사용자만 거부할 수 있습니다: " + user.getStudentId());
+                if (user.status() != UserStatus.PENDING) {
+                    throw new IllegalStateException("승인 대기 중인 사용자만 거부할 수 있습니다: " + user.studentId());
                 }
             }
             case "activate" -> {
-                if (user.getStatus() != UserStatus.INACTIVE && user.getStatus() != UserStatus.SUSPENDED) {
-                    throw new IllegalStateException("비활성화 또는 정지된 사용자만 활성화할 수 있습니다: " + user.getStudentId());
+                if (user.status() != UserStatus.INACTIVE && user.status() != UserStatus.SUSPENDED) {
+                    throw new IllegalStateException("비활성화 또는 정지된 사용자만 활성화할 수 있습니다: " + user.studentId());
                 }
             }
             case "deactivate" -> {
-                if (user.getStatus() != UserStatus.ACTIVE) {
-                    throw new IllegalStateException("활성화된 사용자만 비활성화할 수 있습니다: " + user.getStudentId());
+                if (user.status() != UserStatus.ACTIVE) {
+                    throw new IllegalStateException("활성화된 사용자만 비활성화할 수 있습니다: " + user.studentId());
                 }
             }
             case "suspend" -> {
-                if (user.getStatus() != UserStatus.ACTIVE && user.getStatus() != UserStatus.INACTIVE) {
-                    throw new IllegalStateException("활성화된 사용자만 정지할 수 있습니다: " + user.getStudentId());
+                if (user.status() != UserStatus.ACTIVE && user.status() != UserStatus.INACTIVE) {
+                    throw new IllegalStateException("활성화된 사용자만 정지할 수 있습니다: " + user.studentId());
                 }
             }
             default -> throw new IllegalArgumentException("알 수 없는 액션입니다: " + action);
         }
     }
 
-    private void updateUserStatusInternal(User user, String action, String reason) {
-        switch (action) {
-            case "approve", "activate" -> user.setStatus(UserStatus.ACTIVE);
-            case "reject" -> user.setStatus(UserStatus.REJECTED);
-            case "deactivate" -> user.setStatus(UserStatus.INACTIVE);
-            case "suspend" -> user.setStatus(UserStatus.SUSPENDED);
+    private UserStatus targetStatusOf(String action) {
+        return switch (action) {
+            case "approve", "activate" -> UserStatus.ACTIVE;
+            case "reject" -> UserStatus.REJECTED;
+            case "deactivate" -> UserStatus.INACTIVE;
+            case "suspend" -> UserStatus.SUSPENDED;
             default -> throw new IllegalArgumentException("알 수 없는 액션입니다: " + action);
-        }
-
-        userRepository.save(user);
-        log.info("사용자 상태 변경: {} - 새로운 상태: {}, 이유: {}", user.getStudentId(), user.getStatus(), reason);
+        };
     }
 
 }
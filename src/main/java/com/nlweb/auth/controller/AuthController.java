@@ -3,9 +3,11 @@ package com.nlweb.auth.controller;
 import com.nlweb.user.dto.UserInfo;
 import com.nlweb.auth.dto.*;
 import com.nlweb.common.dto.*;
+import com.nlweb.auth.service.AuthRateLimiter;
 import com.nlweb.auth.service.AuthService;
 import com.nlweb.user.service.UserService;
 import com.nlweb.common.security.CustomUserDetails;
+import com.nlweb.common.util.ClientIpAddresses;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -27,6 +29,7 @@ import jakarta.validation.Valid;
 public class AuthController {
 
     private final AuthService authService;
+    private final AuthRateLimiter authRateLimiter;
 
     /** 회원가입 */
     @Operation(summary = "회원가입", description = "새로운 사용자를 등록합니다.")
@@ -34,6 +37,7 @@ public class AuthController {
     public ResponseEntity<ApiResponse<RegisterResponse>> register(
             @RequestBody @Valid RegisterRequest registerRequest,
             HttpServletRequest httpRequest) {
+        authRateLimiter.check("register", ClientIpAddresses.resolve(httpRequest), registerRequest.getStudentId());
         RegisterResponse registerResponse = authService.register(registerRequest, httpRequest);
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.success(registerResponse));
@@ -45,15 +49,18 @@ public class AuthController {
     public ResponseEntity<ApiResponse<LoginResponse>> login(
             @RequestBody @Valid LoginRequest loginRequest,
             HttpServletRequest httpRequest) {
+        authRateLimiter.check("login", ClientIpAddresses.resolve(httpRequest), loginRequest.getIdentifier());
         LoginResponse loginResponse = authService.login(loginRequest, httpRequest);
         return ResponseEntity.ok(ApiResponse.success(loginResponse));
     }
 
     /** 로그아웃 */
-    @Operation(summary = "로그아웃", description = "사용자 로그아웃 처리")
+    @Operation(summary = "로그아웃", description = "사용자 로그아웃 처리 (리프레시 토큰을 함께 보내면 해당 기기 세션만 종료)")
     @PostMapping("/logout")
-    public ResponseEntity<ApiResponse<Void>> logout(HttpServletRequest httpRequest) {
-        authService.logout(httpRequest);
+    public ResponseEntity<ApiResponse<Void>> logout(
+            @RequestBody(required = false) RefreshTokenRequest request,
+            HttpServletRequest httpRequest) {
+        authService.logout(request != null ? request.getRefreshToken() : null, httpRequest);
         return ResponseEntity.ok(ApiResponse.success(null));
     }
 
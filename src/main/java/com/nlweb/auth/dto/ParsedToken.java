@@ -0,0 +1,17 @@
+package com.nlweb.auth.dto;
+
+import java.time.Instant;
+
+/** 서명 검증을 마친 JWT의 표준 클레임 (sub, jti, iat, exp) */
+public record ParsedToken(
+        String studentId,
+        String tokenId,
+        Instant issuedAt,
+        Instant expiresAt
+) {
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+
+}
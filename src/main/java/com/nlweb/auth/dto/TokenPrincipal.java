@@ -0,0 +1,35 @@
+package com.nlweb.auth.dto;
+
+import java.time.Instant;
+import java.util.Set;
+
+/** 서명 검증을 마친 액세스 토큰의 불변 주체 정보 */
+public record TokenPrincipal(
+        String studentId,
+        Set<String> roles,
+        String tokenId,
+        Instant issuedAt,
+        Instant expiresAt
+) {
+
+    public static final String ROLE_USER = "ROLE_USER";
+    public static final String ROLE_ADMIN = "ROLE_ADMIN";
+
+    public TokenPrincipal {
+        roles = Set.copyOf(roles);
+    }
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    /** 만료까지 남은 시간 (ms, 만료 시 0) */
+    public long remainingMillis(Instant now) {
+        return Math.max(0, expiresAt.toEpochMilli() - now.toEpochMilli());
+    }
+
+    public boolean hasRole(String role) {
+        return roles.contains(role);
+    }
+
+}
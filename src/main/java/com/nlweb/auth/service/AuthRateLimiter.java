@@ -0,0 +1,210 @@
+package com.nlweb.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nlweb.common.exception.auth.TooManyRequestsException;
+import com.nlweb.config.properties.RateLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인증 엔드포인트 요청 제한
+ * <p>
+ * IP별/식별자별 슬라이딩 윈도우를 Redis Lua 스크립트 한 번으로 확인하고 기록한다. (모든 키를 확인한 뒤 모두 통과할 때만 기록)
+ * 앞단에 노드별 토큰 버킷을 두어, 이 노드만으로도 한도를 넘은 요청은 Redis 왕복 없이 바로 거절한다.
+ * Redis에서 거절된 요청은 버킷 토큰을 돌려주므로 버킷은 이 노드에서 허용된 요청만 세고,
+ * 구간이 지나면 가득 차므로 전역 윈도우가 허용할 요청을 버킷이 먼저 거절하지는 않는다.
+ * 비밀번호 해싱/DB 조회보다 먼저 호출해야 한다.
+ */
+@Slf4j
+@Service
+public class AuthRateLimiter {
+
+    /**
+     * KEYS: 제한 키 목록, ARGV: [요청 ID, (최대 요청 수, 구간 ms) * 키 수]
+     * 반환: 허용이면 0, 초과면 재시도까지 남은 ms
+     */
+    private static final RedisScript<Long> SLIDING_WINDOW_SCRIPT = new DefaultRedisScript<>("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local retryAfter = 0
+            for i, key in ipairs(KEYS) do
+                local limit = tonumber(ARGV[i * 2])
+                local window = tonumber(ARGV[i * 2 + 1])
+                redis.call('ZREMRANGEBYSCORE', key, '-inf', now - window)
+                if redis.call('ZCARD', key) >= limit then
+                    local oldest = redis.call('ZRANGE', key, 0, 0, 'WITHSCORES')
+                    local wait = window
+                    if oldest[2] then
+                        wait = tonumber(oldest[2]) + window - now
+                    end
+                    if wait > retryAfter then
+                        retryAfter = wait
+                    end
+                end
+            end
+            if retryAfter > 0 then
+                return math.max(1, retryAfter)
+            end
+            for i, key in ipairs(KEYS) do
+                local window = tonumber(ARGV[i * 2 + 1])
+                redis.call('ZADD', key, now, ARGV[1])
+                redis.call('PEXPIRE', key, window)
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RateLimitProperties rateLimitProperties;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, LocalBucket> localBuckets;
+    private final ConcurrentHashMap<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public AuthRateLimiter(StringRedisTemplate stringRedisTemplate,
+                           RateLimitProperties rateLimitProperties,
+                           MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.rateLimitProperties = rateLimitProperties;
+        this.meterRegistry = meterRegistry;
+        this.localBuckets = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMinutes(30))
+                .maximumSize(100_000)
+                .build();
+    }
+
+    /** 요청 허용 여부 확인 (초과 시 TooManyRequestsException) */
+    public void check(String endpoint, String ipAddress, String identifier) {
+        if (!rateLimitProperties.isEnabled()) {
+            return;
+        }
+
+        RateLimitProperties.Policy policy = rateLimitProperties.findPolicy(endpoint);
+        if (policy == null) {
+            return;
+        }
+
+        List<String> keys = new ArrayList<>(2);
+        List<RateLimitProperties.Limit> limits = new ArrayList<>(2);
+        if (policy.getIp() != null && ipAddress != null) {
+            keys.add(rateLimitProperties.getKeyPrefix() + endpoint + ":ip:" + ipAddress);
+            limits.add(policy.getIp());
+        }
+        if (policy.getIdentifier() != null && identifier != null && !identifier.isBlank()) {
+            keys.add(rateLimitProperties.getKeyPrefix() + endpoint + ":id:" + identifier.trim().toLowerCase(Locale.ROOT));
+            limits.add(policy.getIdentifier());
+        }
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        // 1. 로컬 버킷 (Redis 왕복 없이 명백한 초과 요청 거절, 거절 시 앞서 꺼낸 토큰은 반환)
+        List<LocalBucket> buckets = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            RateLimitProperties.Limit limit = limits.get(i);
+            LocalBucket bucket = localBuckets.get(keys.get(i), key -> new LocalBucket(limit));
+            if (!bucket.tryConsume()) {
+                buckets.forEach(LocalBucket::refund);
+                count(endpoint, "rejected_local");
+                throw rejected(limit.getWindow().toMillis());
+            }
+            buckets.add(bucket);
+        }
+
+        // 2. 전역 슬라이딩 윈도우
+        long retryAfterMillis;
+        try {
+            retryAfterMillis = evaluate(keys, limits);
+        } catch (Exception e) {
+            count(endpoint, "error");
+            if (rateLimitProperties.isFailOpen()) {
+                log.warn("요청 제한 확인 실패, 로컬 제한만 적용: {} - {}", endpoint, e.getMessage());
+                return;
+            }
+            buckets.forEach(LocalBucket::refund);
+            throw new TooManyRequestsException("요청을 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        if (retryAfterMillis > 0) {
+            // 전역 윈도우에 기록되지 않은 요청이므로 로컬 토큰도 반환
+            buckets.forEach(LocalBucket::refund);
+            count(endpoint, "rejected");
+            log.warn("요청 제한 초과: {} - IP: {}", endpoint, ipAddress);
+            throw rejected(retryAfterMillis);
+        }
+        count(endpoint, "allowed");
+    }
+
+    // ========================== Private Methods ==========================
+
+    /** 통과하면 0, 초과하면 재시도까지 남은 ms */
+    private long evaluate(List<String> keys, List<RateLimitProperties.Limit> limits) {
+        List<String> args = new ArrayList<>(1 + limits.size() * 2);
+        args.add(UUID.randomUUID().toString());
+        for (RateLimitProperties.Limit limit : limits) {
+            args.add(String.valueOf(limit.getMaxRequests()));
+            args.add(String.valueOf(limit.getWindow().toMillis()));
+        }
+
+        Long retryAfterMillis = stringRedisTemplate.execute(SLIDING_WINDOW_SCRIPT, keys, args.toArray());
+        if (retryAfterMillis == null) {
+            throw new IllegalStateException("요청 제한 스크립트 결과가 올바르지 않습니다.");
+        }
+        return retryAfterMillis;
+    }
+
+    private TooManyRequestsException rejected(long retryAfterMillis) {
+        long seconds = Math.max(1, (retryAfterMillis + 999) / 1000);
+        return new TooManyRequestsException("요청이 너무 많습니다. " + seconds + "초 후 다시 시도해주세요.");
+    }
+
+    private void count(String endpoint, String outcome) {
+        counters.computeIfAbsent(endpoint + ":" + outcome, key -> Counter.builder("nlweb.auth.rate_limit")
+                .description("인증 엔드포인트 요청 제한 결과")
+                .tag("endpoint", endpoint)
+                .tag("outcome", outcome)
+                .register(meterRegistry)).increment();
+    }
+
+    /** 노드별 토큰 버킷 (용량 = 최대 요청 수, 구간 동안 전부 충전) */
+    private static final class LocalBucket {
+
+        private final long capacity;
+        private final double refillPerNano;
+        private long lastRefill = System.nanoTime();
+        private double tokens;
+
+        private LocalBucket(RateLimitProperties.Limit limit) {
+            this.capacity = limit.getMaxRequests();
+            this.refillPerNano = (double) limit.getMaxRequests() / limit.getWindow().toNanos();
+            this.tokens = capacity;
+        }
+
+        private synchronized boolean tryConsume() {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - lastRefill) * refillPerNano);
+            lastRefill = now;
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+
+        /** 허용되지 않은 요청의 토큰 반환 */
+        private synchronized void refund() {
+            tokens = Math.min(capacity, tokens + 1);
+        }
+    }
+
+}
@@ -4,20 +4,20 @@ import com.nlweb.config.properties.JwtProperties;
 import com.nlweb.auth.dto.*;
 import com.nlweb.user.entity.User;
 import com.nlweb.user.dto.*;
+import com.nlweb.user.repository.UserBulkRepository;
 import com.nlweb.user.repository.UserRepository;
 import com.nlweb.user.service.*;
 import com.nlweb.admin.dto.*;
 import com.nlweb.common.exception.user.UserNotFoundException;
 import com.nlweb.common.exception.auth.InvalidCredentialsException;
 import com.nlweb.common.security.JwtTokenProvider;
+import com.nlweb.common.util.ClientIpAddresses;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import jakarta.servlet.http.HttpServletRequest;
-import java.time.Duration;
+import java.time.Instant;
 
 @Slf4j
 @Service
@@ -25,54 +25,58 @@ import java.time.Duration;
 @Transactional(readOnly = true)
 public class AuthService {
 
-    private final UserCacheService userCacheService;
     private final UserService userService;
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final UserBulkRepository userBulkRepository;
+    private final LastLoginRecorder lastLoginRecorder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtTokenProvider jwtTokenProvider;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final TokenParser tokenParser;
+    private final AuthRateLimiter authRateLimiter;
+    private final RefreshTokenStore refreshTokenStore;
+    private final TokenRevocationService tokenRevocationService;
+    private final VerifiedTokenCache verifiedTokenCache;
     private final JwtProperties jwtProperties;
 
     /** 회원가입 처리 */
     @Transactional
     public RegisterResponse register(RegisterRequest registerRequest, HttpServletRequest httpRequest) {
 
-        // 1. 중복 검사
-        validateUserRegistration(registerRequest);
-
-        // 2. IP 추출
+        // 1. IP 추출
         String ipAddress = getClientIpAddress(httpRequest);
 
-        // 3. 사용자 생성
-        CreateUserResponse response = userService.createUser(CreateUserRequest.from(registerRequest));
+        // 2. 사용자 생성 (중복 검사 포함)
+        User user = userService.registerUser(CreateUserRequest.from(registerRequest));
 
         log.info("회원가입 성공 - 학번: {}, IP: {}", registerRequest.getStudentId(), ipAddress);
 
-        User user = userCacheService.getUserByStudentId(response.getStudentId())
-                .orElseThrow(() -> new UserNotFoundException(response.getStudentId()));
-
         return RegisterResponse.fromEntity(user);
     }
 
     /** 로그인 처리 */
-    @Transactional
     public LoginResponse login(LoginRequest request, HttpServletRequest httpRequest) {
-        User user = userCacheService.getUserByStudentId(request.getIdentifier())
-                .or(() -> userCacheService.getUserByEmail(request.getIdentifier()))
+        User user = userRepository.findByStudentIdOrEmail(request.getIdentifier())
                 .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다"));
 
         validateUserAccount(user);
 
-        if (!passwordEncoder.matches(request.getPassword(), user.getPasswordHash())) {
+        PasswordHashingService.Verification verification =
+                passwordHashingService.verify(request.getPassword(), user.getPasswordHash());
+        if (!verification.matched()) {
             throw new InvalidCredentialsException("잘못된 비밀번호입니다");
         }
 
+        if (verification.needsUpgrade()
+                && userBulkRepository.updatePasswordHash(user.getStudentId(), user.getPasswordHash(), verification.upgradedHash())) {
+            log.info("비밀번호 해시 강도 갱신: {}", user.getStudentId());
+        }
+
         handleSuccessfulLogin(user, httpRequest);
 
         String accessToken = jwtTokenProvider.createAccessToken(user);
         String refreshToken = jwtTokenProvider.createRefreshToken(user);
 
-        saveRefreshToken(user.getStudentId(), refreshToken);
+        refreshTokenStore.issue(user.getStudentId(), jwtTokenProvider.getTokenId(refreshToken));
 
         UserInfo userInfo = UserInfo.fromEntity(user, true);
 
@@ -89,21 +93,17 @@ public class AuthService {
 
     /** 로그아웃 처리 */
     @Transactional
-    public void logout(HttpServletRequest httpRequest) {
+    public void logout(String refreshToken, HttpServletRequest httpRequest) {
         String token = jwtTokenProvider.resolveToken(httpRequest);
         String ipAddress = getClientIpAddress(httpRequest);
 
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            String studentId = jwtTokenProvider.getStudentIdFromToken(token);
-            deleteRefreshToken(studentId);
-
-            long remainingTime = jwtTokenProvider.getRemainingTime(token);
-            if (remainingTime > 0) {
-                String blacklistKey = "auth:blacklist:" + jwtTokenProvider.getTokenId(token);
-                redisTemplate.opsForValue().set(blacklistKey, "LOGGED_OUT", Duration.ofMillis(remainingTime));
-            }
+        TokenPrincipal principal = verifiedTokenCache.verify(token).orElse(null);
+        if (principal != null) {
+            revokeRefreshTokens(principal.studentId(), refreshToken);
+            tokenRevocationService.revoke(principal.tokenId(), principal.remainingMillis(Instant.now()));
+            verifiedTokenCache.invalidate(token);
 
-            log.info("로그아웃 완료: {}", studentId);
+            log.info("로그아웃 완료: {}", principal.studentId());
         } else {
             log.warn("유효하지 않은 토큰으로 로그아웃 시도: IP: {}", ipAddress);
         }
@@ -114,24 +114,19 @@ public class AuthService {
     }
 
     /** 토큰 갱신 */
-    @Transactional
     public TokenResponse refreshToken(RefreshTokenRequest request, HttpServletRequest httpRequest) {
-        String refreshToken = request.getRefreshToken();
+        // 서명 검증과 학번/토큰 ID 조회를 한 번의 파싱으로 처리
+        ParsedToken refreshToken = tokenParser.parse(request.getRefreshToken()).orElse(null);
 
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
+        // IP별 + (서명이 확인된 토큰이면) 학번별 요청 제한
+        authRateLimiter.check("tokens", getClientIpAddress(httpRequest), refreshToken != null ? refreshToken.studentId() : null);
+        if (refreshToken == null) {
             throw new InvalidCredentialsException("유효하지 않은 리프레시 토큰입니다");
         }
 
-        // 토큰에서 학번 추출
-        String studentId = jwtTokenProvider.getStudentIdFromToken(refreshToken);
-
-        // Redis에 저장된 Refresh Token 조회
-        String storedToken = getStoredRefreshToken(studentId);
-        if (!storedToken.equals(refreshToken)) {
-            throw new InvalidCredentialsException("리프레시 토큰이 일치하지 않습니다");
-        }
+        String studentId = refreshToken.studentId();
 
-        User user = userCacheService.getUserByStudentId(studentId)
+        User user = userRepository.findByStudentId(studentId)
                 .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다"));
 
         validateUserAccount(user);
@@ -139,7 +134,12 @@ public class AuthService {
         String newAccessToken = jwtTokenProvider.createAccessToken(user);
         String newRefreshToken = jwtTokenProvider.createRefreshToken(user);
 
-        saveRefreshToken(studentId, newRefreshToken);
+        // 기존 토큰 사용 처리 + 새 토큰 등록 (이미 사용된 토큰이면 해당 세션 전체 폐기)
+        RefreshTokenStore.RotationResult rotation = refreshTokenStore.rotate(
+                studentId, refreshToken.tokenId(), jwtTokenProvider.getTokenId(newRefreshToken));
+        if (rotation != RefreshTokenStore.RotationResult.ROTATED) {
+            throw new InvalidCredentialsException("리프레시 토큰이 일치하지 않습니다");
+        }
 
         log.info("토큰 갱신 성공: {} ({})", user.getUsername(), studentId);
 
@@ -153,31 +153,13 @@ public class AuthService {
     /** 토큰 유효성 검사 */
     public boolean isTokenValid(HttpServletRequest httpRequest) {
         String token = jwtTokenProvider.resolveToken(httpRequest);
-        if (!jwtTokenProvider.validateToken(token)) {
-            return false;
-        }
-
-        String tokenId = jwtTokenProvider.getTokenId(token);
-        String blacklistKey = "auth:blacklist:" + tokenId;
-        return !redisTemplate.hasKey(blacklistKey);
+        return verifiedTokenCache.verify(token)
+                .map(principal -> !tokenRevocationService.isRevoked(principal.tokenId()))
+                .orElse(false);
     }
 
     // ===================== Private 메소드 ===================== //
 
-    private void validateUserRegistration(RegisterRequest request) {
-        if (userCacheService.isUserExistsByStudentId(request.getStudentId())) {
-            throw new InvalidCredentialsException("이미 등록된 학번입니다");
-        }
-
-        if (userCacheService.isUserExistsByEmail(request.getEmail())) {
-            throw new InvalidCredentialsException("이미 등록된 이메일입니다");
-        }
-
-        if (userCacheService.isUserExistsByPhone(request.getPhone())) {
-            throw new InvalidCredentialsException("이미 등록된 전화번호입니다");
-        }
-    }
-
     private void validateUserAccount(User user) {
 
         if (user.getStatus().isPending()) {
@@ -197,40 +179,24 @@ public class AuthService {
         String ipAddress = getClientIpAddress(request);
         log.info("로그인 성공 - 사용자: {}, IP: {}", user.getStudentId(), ipAddress);
 
-        // 마지막 로그인 시간 갱신
-        user.updateLastLogin();
-
-        userRepository.save(user);
-    }
-
-    private void saveRefreshToken(String studentId, String refreshToken) {
-        String key = "auth:refresh:" + studentId;
-        Duration expiration = Duration.ofMillis(jwtProperties.getRefreshTokenValidity());
-        redisTemplate.opsForValue().set(key, refreshToken, expiration);
+        // 마지막 로그인 시간은 모아서 일괄 반영
+        lastLoginRecorder.record(user.getStudentId());
     }
 
-    private String getStoredRefreshToken(String studentId) {
-        String key = "auth:refresh:" + studentId;
-        return (String) redisTemplate.opsForValue().get(key);
-    }
-
-    private void deleteRefreshToken(String studentId) {
-        String key = "auth:refresh:" + studentId;
-        redisTemplate.delete(key);
+    /** 리프레시 토큰이 함께 오면 해당 세션만, 없으면 사용자의 모든 세션 폐기 */
+    private void revokeRefreshTokens(String studentId, String refreshToken) {
+        ParsedToken parsed = tokenParser.parse(refreshToken)
+                .filter(token -> studentId.equals(token.studentId()))
+                .orElse(null);
+        if (parsed != null) {
+            refreshTokenStore.revokeFamily(studentId, parsed.tokenId());
+        } else {
+            refreshTokenStore.revokeAll(studentId);
+        }
     }
 
     private String getClientIpAddress(HttpServletRequest request) {
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            return xForwardedFor.split(",")[0].trim();
-        }
-
-        String xRealIp = request.getHeader("X-Real-IP");
-        if (xRealIp != null && !xRealIp.isEmpty()) {
-            return xRealIp;
-        }
-
-        return request.getRemoteAddr();
+        return ClientIpAddresses.resolve(request);
     }
 
 }
@@ -0,0 +1,190 @@
+package com.nlweb.auth.service;
+
+import com.nlweb.common.exception.auth.TooManyRequestsException;
+import com.nlweb.config.properties.PasswordHashingProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 비밀번호 해싱 서비스
+ * <p>
+ * BCrypt 연산은 요청 스레드가 아닌 전용 스레드 풀에서 수행하고, 대기열이 가득 차면 즉시 429로 거절한다.
+ * 강도(cost)는 모든 노드가 같은 값을 쓰도록 설정으로 고정하며(calibrate 사용 시에만 호스트에서 보정),
+ * 로그인 시 저장된 해시의 강도가 현재 강도보다 낮을 때만 새 강도로 다시 해싱한다.
+ */
+@Slf4j
+@Service
+public class PasswordHashingService {
+
+    private static final Pattern BCRYPT_HASH = Pattern.compile("^(?:\\{bcrypt})?\\$2[abxy]?\\$(\\d{2})\\$");
+    private static final String CALIBRATION_PASSWORD = "nlweb-password-calibration";
+
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingProperties passwordHashingProperties;
+    private final ThreadPoolExecutor hashingExecutor;
+
+    private volatile Hasher hasher;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  PasswordHashingProperties passwordHashingProperties) {
+        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingProperties = passwordHashingProperties;
+        this.hasher = new Hasher(Math.min(passwordHashingProperties.getMaxStrength(),
+                Math.max(passwordHashingProperties.getMinStrength(), passwordHashingProperties.getStrength())));
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.hashingExecutor = new ThreadPoolExecutor(
+                passwordHashingProperties.getThreads(),
+                passwordHashingProperties.getThreads(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(passwordHashingProperties.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /** 호스트 성능에 맞춰 BCrypt 강도 보정 (calibrate 설정 시에만, 기본은 설정된 강도 사용) */
+    @PostConstruct
+    public void calibrate() {
+        if (!passwordHashingProperties.isCalibrate()) {
+            log.info("BCrypt 강도: {} (설정값)", hasher.strength());
+            return;
+        }
+
+        int minStrength = passwordHashingProperties.getMinStrength();
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(minStrength);
+
+        probe.encode(CALIBRATION_PASSWORD);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long started = System.nanoTime();
+            probe.encode(CALIBRATION_PASSWORD);
+            best = Math.min(best, System.nanoTime() - started);
+        }
+
+        // 강도가 1 오를 때마다 소요 시간은 2배
+        double ratio = (double) passwordHashingProperties.getTargetDuration().toNanos() / Math.max(1, best);
+        int extra = ratio >= 1 ? (int) Math.floor(Math.log(ratio) / Math.log(2)) : 0;
+        int strength = Math.min(passwordHashingProperties.getMaxStrength(), minStrength + extra);
+
+        hasher = new Hasher(strength);
+        log.info("BCrypt 강도 보정 완료: {} (강도 {} 기준 {}ms)", strength, minStrength, best / 1_000_000);
+    }
+
+    /** 현재 적용 중인 BCrypt 강도 */
+    public int getStrength() {
+        return hasher.strength();
+    }
+
+    /** 비밀번호 해싱 */
+    public String encode(CharSequence rawPassword) {
+        Hasher current = hasher;
+        return execute(() -> current.encoder().encode(rawPassword));
+    }
+
+    /** 비밀번호 일치 여부 */
+    public boolean matches(CharSequence rawPassword, String passwordHash) {
+        return execute(() -> matchesInternal(rawPassword, passwordHash));
+    }
+
+    /** 비밀번호 확인 + 저장된 강도가 더 낮으면 재해싱 (로그인용, 한 번의 작업으로 처리) */
+    public Verification verify(CharSequence rawPassword, String passwordHash) {
+        Hasher current = hasher;
+        return execute(() -> {
+            if (!matchesInternal(rawPassword, passwordHash)) {
+                return Verification.MISMATCH;
+            }
+
+            int storedStrength = strengthOf(passwordHash);
+            if (storedStrength < 0 || storedStrength >= current.strength()) {
+                return Verification.MATCHED;
+            }
+            return new Verification(true, current.encoder().encode(rawPassword));
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashingExecutor.shutdown();
+    }
+
+    // ========================== Private Methods ==========================
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = hashingExecutor.submit(task);
+        } catch (RejectedExecutionException e) {
+            log.warn("비밀번호 해싱 대기열 포화: 활성 {}, 대기 {}",
+                    hashingExecutor.getActiveCount(), hashingExecutor.getQueue().size());
+            throw new TooManyRequestsException("요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            return future.get(passwordHashingProperties.getWaitTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new TooManyRequestsException("요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 처리 중 인터럽트가 발생했습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 처리에 실패했습니다.", e.getCause());
+        }
+    }
+
+    /** BCrypt 해시는 강도와 무관하게 직접 확인하고, 그 외 형식은 기존 인코더에 위임 */
+    private boolean matchesInternal(CharSequence rawPassword, String passwordHash) {
+        if (passwordHash == null) {
+            return false;
+        }
+        if (passwordHash.startsWith("$2")) {
+            return hasher.encoder().matches(rawPassword, passwordHash);
+        }
+        return passwordEncoder.matches(rawPassword, passwordHash);
+    }
+
+    /** 해시에 기록된 BCrypt 강도 (BCrypt 형식이 아니면 -1) */
+    private static int strengthOf(String passwordHash) {
+        if (passwordHash == null) {
+            return -1;
+        }
+        Matcher matcher = BCRYPT_HASH.matcher(passwordHash);
+        return matcher.find() ? Integer.parseInt(matcher.group(1)) : -1;
+    }
+
+    /** 보정된 강도와 인코더 */
+    private record Hasher(int strength, BCryptPasswordEncoder encoder) {
+
+        private Hasher(int strength) {
+            this(strength, new BCryptPasswordEncoder(strength));
+        }
+    }
+
+    /** 로그인 비밀번호 확인 결과 (upgradedHash: 재해싱된 값, 없으면 null) */
+    public record Verification(boolean matched, String upgradedHash) {
+
+        static final Verification MATCHED = new Verification(true, null);
+        static final Verification MISMATCH = new Verification(false, null);
+
+        public boolean needsUpgrade() {
+            return upgradedHash != null;
+        }
+    }
+
+}
@@ -0,0 +1,214 @@
+package com.nlweb.auth.service;
+
+import com.nlweb.config.properties.JwtProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 리프레시 토큰 저장소 (사용자별 Redis 해시, 기기별 토큰 패밀리)
+ * <p>
+ * 키: auth:refresh:sessions:{studentId}
+ * - t:{토큰 ID 해시} → {패밀리 ID}|{active|used}|{만료 시각 ms}
+ * - f:{패밀리 ID}   → 현재 유효한 토큰 ID 해시
+ * - u:{패밀리 ID}   → 최근 사용된 토큰 ID 해시 목록 (공백 구분, 최근 몇 개만 보관)
+ * 키: auth:refresh:expiry:{studentId} (정렬 집합, 패밀리 ID → 현재 토큰 만료 시각 ms)
+ * 로그인마다 새 패밀리를 만들어 여러 기기의 동시 세션을 허용하고, JWT 원문 대신 토큰 ID 해시만 저장한다.
+ * 교체(rotation)와 재사용 탐지는 Lua 스크립트 한 번으로 처리하며,
+ * 이미 사용된 토큰이 다시 제시되면 해당 패밀리 전체를 폐기한다.
+ * 발급/교체 시 정렬 집합에서 만료된 패밀리만 골라 정리하므로 해시 전체를 읽지 않는다.
+ * 사용된 토큰은 패밀리별 최근 {@value #USED_PER_FAMILY}개만 남기므로, 그보다 오래된 토큰이 다시 제시되면
+ * 재사용으로 탐지되지 않고 UNKNOWN(거절)으로 처리되며 패밀리는 유지된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenStore {
+
+    private static final String KEY_PREFIX = "auth:refresh:sessions:";
+    private static final String EXPIRY_KEY_PREFIX = "auth:refresh:expiry:";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    /** 최근 사용된 토큰을 패밀리별로 보관할 개수 (재사용 탐지용, 더 오래된 토큰은 삭제되어 UNKNOWN으로 거절) */
+    private static final int USED_PER_FAMILY = 5;
+
+    /**
+     * 스크립트 공통 함수 (KEYS[1]: 세션 해시, KEYS[2]: 패밀리 만료 정렬 집합)
+     * - dropFamily: 패밀리의 현재 토큰, 보관 중인 사용된 토큰, 패밀리 항목 제거 (현재 토큰 해시 반환)
+     * - prune: 현재 토큰이 만료된 패밀리만 정렬 집합에서 골라 제거
+     */
+    private static final String FUNCTIONS = """
+            local function dropFamily(key, expiryKey, family)
+                local current = redis.call('HGET', key, 'f:' .. family)
+                if current then
+                    redis.call('HDEL', key, 't:' .. current)
+                end
+                local used = redis.call('HGET', key, 'u:' .. family)
+                if used then
+                    for hash in string.gmatch(used, '%S+') do
+                        redis.call('HDEL', key, 't:' .. hash)
+                    end
+                end
+                redis.call('HDEL', key, 'f:' .. family, 'u:' .. family)
+                redis.call('ZREM', expiryKey, family)
+                return current
+            end
+            local function prune(key, expiryKey, now)
+                local expired = redis.call('ZRANGEBYSCORE', expiryKey, '-inf', '(' .. now)
+                for _, family in ipairs(expired) do
+                    dropFamily(key, expiryKey, family)
+                end
+            end
+            """;
+
+    /** ARGV: 토큰 ID 해시, 패밀리 ID, 만료 시각, 키 TTL(ms), 현재 시각 */
+    private static final RedisScript<Long> ISSUE_SCRIPT = new DefaultRedisScript<>(FUNCTIONS + """
+            prune(KEYS[1], KEYS[2], tonumber(ARGV[5]))
+            redis.call('HSET', KEYS[1], 't:' .. ARGV[1], ARGV[2] .. '|active|' .. ARGV[3], 'f:' .. ARGV[2], ARGV[1])
+            redis.call('ZADD', KEYS[2], ARGV[3], ARGV[2])
+            redis.call('PEXPIRE', KEYS[1], ARGV[4])
+            redis.call('PEXPIRE', KEYS[2], ARGV[4])
+            return 1
+            """, Long.class);
+
+    /**
+     * ARGV: 기존 토큰 ID 해시, 새 토큰 ID 해시, 새 만료 시각, 키 TTL(ms), 현재 시각, 패밀리별 사용된 토큰 보관 개수
+     * 반환: 1 교체, 0 없음, -1 만료, -2 재사용(패밀리 폐기), -3 폐기된 패밀리
+     */
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>(FUNCTIONS + """
+            local value = redis.call('HGET', KEYS[1], 't:' .. ARGV[1])
+            if not value then
+                return 0
+            end
+            local family, state, expiresAt = string.match(value, '([^|]+)|([^|]+)|([^|]+)')
+            prune(KEYS[1], KEYS[2], tonumber(ARGV[5]))
+            if tonumber(expiresAt) < tonumber(ARGV[5]) then
+                return -1
+            end
+            local current = redis.call('HGET', KEYS[1], 'f:' .. family)
+            if state ~= 'active' or current ~= ARGV[1] then
+                current = dropFamily(KEYS[1], KEYS[2], family)
+                return current and -2 or -3
+            end
+            local used = {}
+            local previous = redis.call('HGET', KEYS[1], 'u:' .. family)
+            if previous then
+                for hash in string.gmatch(previous, '%S+') do
+                    table.insert(used, hash)
+                end
+            end
+            table.insert(used, ARGV[1])
+            while #used > tonumber(ARGV[6]) do
+                redis.call('HDEL', KEYS[1], 't:' .. table.remove(used, 1))
+            end
+            redis.call('HSET', KEYS[1],
+                't:' .. ARGV[1], family .. '|used|' .. expiresAt,
+                't:' .. ARGV[2], family .. '|active|' .. ARGV[3],
+                'f:' .. family, ARGV[2],
+                'u:' .. family, table.concat(used, ' '))
+            redis.call('ZADD', KEYS[2], ARGV[3], family)
+            redis.call('PEXPIRE', KEYS[1], ARGV[4])
+            redis.call('PEXPIRE', KEYS[2], ARGV[4])
+            return 1
+            """, Long.class);
+
+    /** ARGV: 토큰 ID 해시 (해당 토큰이 속한 패밀리 전체 제거) */
+    private static final RedisScript<Long> REVOKE_FAMILY_SCRIPT = new DefaultRedisScript<>(FUNCTIONS + """
+            local value = redis.call('HGET', KEYS[1], 't:' .. ARGV[1])
+            if not value then
+                return 0
+            end
+            dropFamily(KEYS[1], KEYS[2], string.match(value, '([^|]+)'))
+            redis.call('HDEL', KEYS[1], 't:' .. ARGV[1])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final JwtProperties jwtProperties;
+
+    /** 교체 결과 */
+    public enum RotationResult {
+        ROTATED, UNKNOWN, EXPIRED, REUSED, REVOKED;
+
+        private static RotationResult of(Long code) {
+            if (code == null) {
+                return UNKNOWN;
+            }
+            return switch (code.intValue()) {
+                case 1 -> ROTATED;
+                case -1 -> EXPIRED;
+                case -2 -> REUSED;
+                case -3 -> REVOKED;
+                default -> UNKNOWN;
+            };
+        }
+    }
+
+    /** 로그인 시 새 패밀리로 토큰 등록 */
+    public void issue(String studentId, String tokenId) {
+        long now = System.currentTimeMillis();
+        long validity = jwtProperties.getRefreshTokenValidity();
+        stringRedisTemplate.execute(ISSUE_SCRIPT, keys(studentId),
+                hash(tokenId), newFamilyId(), String.valueOf(now + validity), String.valueOf(validity), String.valueOf(now));
+    }
+
+    /** 토큰 교체 (기존 토큰은 사용 처리, 재사용이면 패밀리 폐기) */
+    public RotationResult rotate(String studentId, String oldTokenId, String newTokenId) {
+        long now = System.currentTimeMillis();
+        long validity = jwtProperties.getRefreshTokenValidity();
+        Long code = stringRedisTemplate.execute(ROTATE_SCRIPT, keys(studentId),
+                hash(oldTokenId), hash(newTokenId), String.valueOf(now + validity), String.valueOf(validity), String.valueOf(now),
+                String.valueOf(USED_PER_FAMILY));
+
+        RotationResult result = RotationResult.of(code);
+        if (result == RotationResult.REUSED) {
+            log.warn("리프레시 토큰 재사용 탐지, 세션 폐기: {}", studentId);
+        }
+        return result;
+    }
+
+    /** 토큰이 속한 세션(패밀리)만 폐기 */
+    public void revokeFamily(String studentId, String tokenId) {
+        stringRedisTemplate.execute(REVOKE_FAMILY_SCRIPT, keys(studentId), hash(tokenId));
+    }
+
+    /** 사용자의 모든 세션 폐기 */
+    public void revokeAll(String studentId) {
+        stringRedisTemplate.delete(keys(studentId));
+    }
+
+    // ========================== Private Methods ==========================
+
+    /** 세션 해시, 패밀리 만료 정렬 집합 */
+    private List<String> keys(String studentId) {
+        return List.of(KEY_PREFIX + studentId, EXPIRY_KEY_PREFIX + studentId);
+    }
+
+    /** 토큰 ID 해시 (SHA-256 앞 16바이트, base64url 22자) */
+    private String hash(String tokenId) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(tokenId.getBytes(StandardCharsets.UTF_8));
+            return ENCODER.encodeToString(Arrays.copyOf(digest, 16));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private String newFamilyId() {
+        byte[] bytes = new byte[12];
+        RANDOM.nextBytes(bytes);
+        return ENCODER.encodeToString(bytes);
+    }
+
+}
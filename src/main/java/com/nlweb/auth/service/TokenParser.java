@@ -0,0 +1,69 @@
+package com.nlweb.auth.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nlweb.auth.dto.ParsedToken;
+import com.nlweb.common.security.JwtTokenProvider;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * JWT 1회 파싱
+ * <p>
+ * 서명/만료 검증은 {@link JwtTokenProvider#validateToken}으로 한 번만 하고,
+ * 표준 클레임(sub, jti, iat, exp)은 검증을 통과한 토큰의 본문을 한 번 디코딩해 함께 읽는다.
+ * (클레임마다 provider를 호출하면 호출마다 서명 검증과 파싱이 반복됨)
+ * 본문에 sub/jti가 없는 토큰만 provider 조회로 보완한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenParser {
+
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final ObjectMapper objectMapper;
+
+    /** 서명 검증 후 표준 클레임 조회 (유효하지 않거나 만료 시각이 없는 토큰은 빈 값) */
+    public Optional<ParsedToken> parse(String token) {
+        if (token == null || token.isBlank() || !jwtTokenProvider.validateToken(token)) {
+            return Optional.empty();
+        }
+
+        JsonNode payload = decodePayload(token);
+        if (payload == null || !payload.hasNonNull("exp")) {
+            return Optional.empty();
+        }
+
+        String studentId = payload.hasNonNull("sub") ? payload.get("sub").asText() : jwtTokenProvider.getStudentIdFromToken(token);
+        String tokenId = payload.hasNonNull("jti") ? payload.get("jti").asText() : jwtTokenProvider.getTokenId(token);
+        Instant issuedAt = payload.hasNonNull("iat") ? Instant.ofEpochSecond(payload.get("iat").asLong()) : null;
+        Instant expiresAt = Instant.ofEpochSecond(payload.get("exp").asLong());
+
+        return Optional.of(new ParsedToken(studentId, tokenId, issuedAt, expiresAt));
+    }
+
+    // ========================== Private Methods ==========================
+
+    /** header.payload.signature 중 본문 디코딩 (서명은 validateToken에서 이미 확인) */
+    private JsonNode decodePayload(String token) {
+        int start = token.indexOf('.');
+        int end = token.indexOf('.', start + 1);
+        if (start < 0 || end < 0) {
+            return null;
+        }
+
+        try {
+            return objectMapper.readTree(DECODER.decode(token.substring(start + 1, end)));
+        } catch (Exception e) {
+            log.warn("토큰 본문 디코딩 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,216 @@
+package com.nlweb.auth.service;
+
+import com.nlweb.common.util.BloomFilter;
+import com.nlweb.config.properties.TokenRevocationProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 폐기(블랙리스트) 관리
+ * <p>
+ * 폐기된 토큰 ID를 만료 시각 기준으로 나눈 블룸 필터 파티션에 노드별로 보관한다.
+ * 필터가 "없음"이라고 답하면 Redis를 조회하지 않고, 적중했을 때만 Redis 블랙리스트로 확인한다.
+ * 필터는 시작 시 Redis SCAN으로 적재하고, 로그아웃 시 pub/sub으로 다른 노드에 전파한다.
+ * 만료 시각이 지난 파티션은 통째로 버리므로 필터가 계속 커지지 않는다.
+ * 메시지 유실에 대비해 주기적으로 Redis 블랙리스트를 다시 읽어 필터에 합친다.
+ * 메시지 형식: {tokenId}|{expiresAtEpochMillis}
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenRevocationService {
+
+    private static final String BLACKLIST_KEY_PREFIX = "auth:blacklist:";
+    private static final String BLACKLIST_VALUE = "LOGGED_OUT";
+    private static final String SEPARATOR = "|";
+    private static final BloomFilter[] NO_FILTERS = new BloomFilter[0];
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final TokenRevocationProperties tokenRevocationProperties;
+
+    /** 파티션 번호(만료 시각 / 파티션 단위) → 필터 */
+    private final ConcurrentSkipListMap<Long, BloomFilter> partitions = new ConcurrentSkipListMap<>();
+
+    /** 조회용 필터 배열 스냅샷 (조회 시 반복자 할당 방지) */
+    private volatile BloomFilter[] filters = NO_FILTERS;
+
+    /** 초기 적재 완료 여부 (완료 전에는 항상 Redis 조회) */
+    private volatile boolean ready;
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> onRevocationMessage(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(tokenRevocationProperties.getChannel()));
+    }
+
+    /** 시작 시 Redis 블랙리스트로 필터 적재 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            int loaded = loadFromRedis();
+            ready = true;
+            log.info("토큰 폐기 필터 적재 완료: {}건", loaded);
+        } catch (Exception e) {
+            log.warn("토큰 폐기 필터 적재 실패, Redis 직접 조회로 동작: {}", e.getMessage());
+        }
+    }
+
+    /** 토큰 폐기 (Redis 블랙리스트 기록 후 로컬 필터 반영 및 전파) */
+    public void revoke(String tokenId, long remainingMillis) {
+        if (tokenId == null || remainingMillis <= 0) {
+            return;
+        }
+
+        long expiresAt = System.currentTimeMillis() + remainingMillis;
+        stringRedisTemplate.opsForValue().set(blacklistKey(tokenId), BLACKLIST_VALUE, Duration.ofMillis(remainingMillis));
+        addLocal(tokenId, expiresAt);
+        publish(tokenId + SEPARATOR + expiresAt);
+    }
+
+    /** 토큰 폐기 여부 (필터 적중 시에만 Redis 확인) */
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null) {
+            return false;
+        }
+
+        if (ready && !mightBeRevoked(tokenId)) {
+            return false;
+        }
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(blacklistKey(tokenId)));
+    }
+
+    /** 만료된 파티션 정리 */
+    @Scheduled(fixedDelayString = "${nlweb.auth.revocation.purge-interval-ms:60000}")
+    public void purgeExpiredPartitions() {
+        long currentPartition = partitionOf(System.currentTimeMillis());
+        if (partitions.isEmpty() || partitions.firstKey() >= currentPartition) {
+            return;
+        }
+
+        partitions.headMap(currentPartition).clear();
+        refreshFilters();
+    }
+
+    /** Redis 블랙리스트 재동기화 (pub/sub 메시지 유실 보정) */
+    @Scheduled(fixedDelayString = "${nlweb.auth.revocation.resync-interval-ms:300000}",
+            initialDelayString = "${nlweb.auth.revocation.resync-interval-ms:300000}")
+    public void resync() {
+        try {
+            int loaded = loadFromRedis();
+            ready = true;
+            log.debug("토큰 폐기 필터 재동기화: {}건", loaded);
+        } catch (Exception e) {
+            log.warn("토큰 폐기 필터 재동기화 실패: {}", e.getMessage());
+        }
+    }
+
+    // ========================== Private Methods ==========================
+
+    private boolean mightBeRevoked(String tokenId) {
+        BloomFilter[] current = filters;
+        for (BloomFilter filter : current) {
+            if (filter.mightContain(tokenId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void onRevocationMessage(String message) {
+        int separatorIndex = message.lastIndexOf(SEPARATOR);
+        if (separatorIndex <= 0) {
+            return;
+        }
+
+        try {
+            addLocal(message.substring(0, separatorIndex), Long.parseLong(message.substring(separatorIndex + 1)));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 토큰 폐기 메시지: {}", message);
+        }
+    }
+
+    private int loadFromRedis() {
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(BLACKLIST_KEY_PREFIX + "*")
+                .count(tokenRevocationProperties.getScanBatchSize())
+                .build();
+
+        int loaded = 0;
+        try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                Long ttl = stringRedisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+                if (ttl == null || ttl == -2) {
+                    continue;
+                }
+
+                long expiresAt = ttl > 0
+                        ? System.currentTimeMillis() + ttl
+                        : Long.MAX_VALUE - tokenRevocationProperties.getPartitionDuration().toMillis();
+                addLocal(key.substring(BLACKLIST_KEY_PREFIX.length()), expiresAt);
+                loaded++;
+            }
+        }
+        return loaded;
+    }
+
+    private void addLocal(String tokenId, long expiresAt) {
+        BloomFilter filter = partitions.get(partitionOf(expiresAt));
+        if (filter == null) {
+            filter = createPartition(partitionOf(expiresAt));
+        }
+        filter.put(tokenId);
+    }
+
+    private synchronized BloomFilter createPartition(long partition) {
+        BloomFilter existing = partitions.get(partition);
+        if (existing != null) {
+            return existing;
+        }
+
+        BloomFilter filter = BloomFilter.create(
+                tokenRevocationProperties.getExpectedInsertionsPerPartition(),
+                tokenRevocationProperties.getFalsePositiveRate());
+        partitions.put(partition, filter);
+        refreshFilters();
+        return filter;
+    }
+
+    private synchronized void refreshFilters() {
+        filters = partitions.values().toArray(NO_FILTERS);
+    }
+
+    /** 만료 시각이 속한 파티션 번호 (파티션은 구간 끝이 지나면 통째로 폐기) */
+    private long partitionOf(long epochMillis) {
+        return epochMillis / tokenRevocationProperties.getPartitionDuration().toMillis();
+    }
+
+    private void publish(String message) {
+        try {
+            stringRedisTemplate.convertAndSend(tokenRevocationProperties.getChannel(), message);
+        } catch (Exception e) {
+            log.warn("토큰 폐기 메시지 발행 실패: {} - {}", message, e.getMessage());
+        }
+    }
+
+    private String blacklistKey(String tokenId) {
+        return BLACKLIST_KEY_PREFIX + tokenId;
+    }
+
+}
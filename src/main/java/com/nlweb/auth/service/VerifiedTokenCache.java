@@ -0,0 +1,152 @@
+package com.nlweb.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.nlweb.admin.service.AdminCacheService;
+import com.nlweb.auth.dto.ParsedToken;
+import com.nlweb.auth.dto.TokenPrincipal;
+import com.nlweb.config.properties.JwtProperties;
+import com.nlweb.config.properties.TokenCacheProperties;
+import com.nlweb.user.service.SecurityStampService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 검증된 액세스 토큰 캐시
+ * <p>
+ * 토큰 서명 검증과 클레임 파싱은 토큰당 한 번만 수행하고, 결과를 불변 {@link TokenPrincipal}로 보관한다.
+ * 키는 토큰 원문 대신 SHA-256 해시를 사용하고, 각 항목은 토큰 만료 시각에 함께 만료된다.
+ * 검증에 실패한 토큰은 캐시하지 않는다.
+ * 토큰 발급 시각이 사용자의 보안 스탬프(마지막 상태/역할 변경 시각)보다 이르면 캐시 적중 여부와 관계없이 토큰을 거절한다.
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    });
+
+    private final TokenParser tokenParser;
+    private final AdminCacheService adminCacheService;
+    private final SecurityStampService securityStampService;
+    private final JwtProperties jwtProperties;
+    private final TokenCacheProperties tokenCacheProperties;
+    private final Cache<String, TokenPrincipal> principals;
+
+    public VerifiedTokenCache(TokenParser tokenParser,
+                              AdminCacheService adminCacheService,
+                              SecurityStampService securityStampService,
+                              JwtProperties jwtProperties,
+                              TokenCacheProperties tokenCacheProperties) {
+        this.tokenParser = tokenParser;
+        this.adminCacheService = adminCacheService;
+        this.securityStampService = securityStampService;
+        this.jwtProperties = jwtProperties;
+        this.tokenCacheProperties = tokenCacheProperties;
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(tokenCacheProperties.getMaximumSize())
+                .expireAfter(new UntilTokenExpiry())
+                .build();
+    }
+
+    /** 토큰 검증 (캐시 적중 시 서명 검증 생략) */
+    public Optional<TokenPrincipal> verify(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+
+        Instant now = Instant.now();
+        if (!tokenCacheProperties.isEnabled()) {
+            return Optional.ofNullable(parse(token, now)).filter(this::isCurrent);
+        }
+
+        String key = hash(token);
+        TokenPrincipal cached = principals.getIfPresent(key);
+        if (cached != null) {
+            if (!cached.isExpired(now) && isCurrent(cached)) {
+                return Optional.of(cached);
+            }
+            principals.invalidate(key);
+            return Optional.empty();
+        }
+
+        TokenPrincipal principal = parse(token, now);
+        if (principal == null || !isCurrent(principal)) {
+            return Optional.empty();
+        }
+        principals.put(key, principal);
+        return Optional.of(principal);
+    }
+
+    /** 캐시 항목 제거 (로그아웃 등) */
+    public void invalidate(String token) {
+        if (token != null) {
+            principals.invalidate(hash(token));
+        }
+    }
+
+    // ========================== Private Methods ==========================
+
+    /** 서명 검증과 클레임 파싱 1회로 주체 구성 */
+    private TokenPrincipal parse(String token, Instant now) {
+        ParsedToken parsed = tokenParser.parse(token).orElse(null);
+        if (parsed == null || parsed.isExpired(now)) {
+            return null;
+        }
+
+        Set<String> roles = adminCacheService.isAdmin(parsed.studentId())
+                ? Set.of(TokenPrincipal.ROLE_USER, TokenPrincipal.ROLE_ADMIN)
+                : Set.of(TokenPrincipal.ROLE_USER);
+
+        // iat가 없는 토큰은 발급 시각 = 만료 시각 - 액세스 토큰 유효 기간
+        Instant issuedAt = parsed.issuedAt() != null ? parsed.issuedAt()
+                : parsed.expiresAt().minusMillis(jwtProperties.getAccessTokenValidity());
+
+        return new TokenPrincipal(parsed.studentId(), roles, parsed.tokenId(), issuedAt, parsed.expiresAt());
+    }
+
+    /** 토큰 발급 이후 상태/역할이 바뀌지 않았는지 확인 */
+    private boolean isCurrent(TokenPrincipal principal) {
+        return securityStampService.isIssuedAfterStamp(principal.studentId(), principal.issuedAt());
+    }
+
+    private static String hash(String token) {
+        MessageDigest digest = SHA_256.get();
+        digest.reset();
+        return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    /** 항목 만료 = 토큰 만료 시각 */
+    private static final class UntilTokenExpiry implements Expiry<String, TokenPrincipal> {
+
+        @Override
+        public long expireAfterCreate(String key, TokenPrincipal principal, long currentTime) {
+            long remainingMillis = principal.remainingMillis(Instant.now());
+            return Math.max(0, remainingMillis) * 1_000_000L;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, TokenPrincipal principal, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, principal, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, TokenPrincipal principal, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.nlweb.common.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 캐시 무효화 공통 처리
+ * <p>
+ * 트랜잭션 안에서 캐시를 지우면 커밋 전에 다른 요청이 이전 값을 다시 캐시할 수 있으므로,
+ * 쓰기 경로의 무효화는 {@link #afterCommit}으로 커밋 후에 실행한다. (트랜잭션 밖이면 즉시 실행)
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheEvictions {
+
+    private final CacheManager cacheManager;
+
+    /** 커밋 이후 실행 (롤백된 변경이 캐시나 인메모리 인덱스에 반영되지 않도록) */
+    public void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /** 키 하나 즉시 무효화 (커밋 후 콜백 안에서 호출) */
+    public void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+
+    /** 캐시 전체 즉시 무효화 */
+    public void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    /** 키 하나를 커밋 후 무효화 */
+    public void evictAfterCommit(String cacheName, Object key) {
+        afterCommit(() -> evict(cacheName, key));
+    }
+
+    /** 캐시 전체를 커밋 후 무효화 */
+    public void clearAfterCommit(String cacheName) {
+        afterCommit(() -> clear(cacheName));
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.nlweb.common.dto;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * 전체 건수를 상한까지만 센 페이지
+ * <p>
+ * 집계가 상한을 넘으면 totalCapped = true이고 전체 건수/페이지 수는 하한값이다.
+ * 이때 다음 페이지 여부는 건수 대신 현재 페이지가 꽉 찼는지로 판단한다.
+ */
+public class EstimatedPage<T> extends PageImpl<T> {
+
+    private final boolean totalCapped;
+
+    public EstimatedPage(List<T> content, Pageable pageable, long total, boolean totalCapped) {
+        super(content, pageable, total);
+        this.totalCapped = totalCapped;
+    }
+
+    /**
+     * 조회 결과로 페이지 생성 (마지막 페이지임이 확실하면 집계 생략)
+     *
+     * @param count      countLimit + 1건에서 멈추는 집계
+     * @param countLimit 정확히 셀 최대 건수
+     */
+    public static <T> EstimatedPage<T> of(List<T> content, Pageable pageable, LongSupplier count, int countLimit) {
+        if (pageable.isUnpaged() || (content.size() < pageable.getPageSize() && (!content.isEmpty() || pageable.getOffset() == 0))) {
+            long total = pageable.isUnpaged() ? content.size() : pageable.getOffset() + content.size();
+            return new EstimatedPage<>(content, pageable, total, false);
+        }
+
+        long counted = count.getAsLong();
+        if (counted > countLimit) {
+            return new EstimatedPage<>(content, pageable, Math.max(countLimit, pageable.getOffset() + content.size()), true);
+        }
+        return new EstimatedPage<>(content, pageable, counted, false);
+    }
+
+    /** 전체 건수가 상한에서 잘린 하한값인지 여부 */
+    public boolean isTotalCapped() {
+        return totalCapped;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (totalCapped) {
+            return getPageable().isPaged() && getNumberOfElements() == getSize();
+        }
+        return super.hasNext();
+    }
+
+    @Override
+    public boolean isLast() {
+        return !hasNext();
+    }
+
+    @Override
+    public <U> EstimatedPage<U> map(Function<? super T, ? extends U> converter) {
+        return new EstimatedPage<>(getConvertedContent(converter), getPageable(), getTotalElements(), totalCapped);
+    }
+
+}
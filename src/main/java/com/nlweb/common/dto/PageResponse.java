@@ -18,6 +18,8 @@ public class PageResponse<T> {
     private boolean first;
     private boolean last;
     private boolean empty;
+    /** 전체 건수/페이지 수가 집계 상한에서 잘린 하한값인지 여부 (true면 last로 다음 페이지 판단) */
+    private boolean totalCapped;
 
     public static <T> PageResponse<T> of(Page<T> page) {
         return PageResponse.<T>builder()
@@ -29,6 +31,7 @@ public class PageResponse<T> {
                 .first(page.isFirst())
                 .last(page.isLast())
                 .empty(page.isEmpty())
+                .totalCapped(page instanceof EstimatedPage<?> estimated && estimated.isTotalCapped())
                 .build();
     }
 }
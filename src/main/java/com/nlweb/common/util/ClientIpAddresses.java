@@ -0,0 +1,21 @@
+package com.nlweb.common.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 요청의 클라이언트 IP 추출
+ * <p>
+ * X-Forwarded-For/X-Real-IP는 클라이언트가 임의로 보낼 수 있으므로 직접 읽지 않는다.
+ * 프록시 뒤에서는 server.forward-headers-strategy=native로 Tomcat RemoteIpValve를 켜 두면,
+ * 신뢰하는 내부 프록시(server.tomcat.remoteip.internal-proxies)를 거친 요청에 한해 원격 주소가 실제 클라이언트 IP로 바뀐다.
+ */
+public final class ClientIpAddresses {
+
+    private ClientIpAddresses() {
+    }
+
+    public static String resolve(HttpServletRequest request) {
+        return request.getRemoteAddr();
+    }
+
+}
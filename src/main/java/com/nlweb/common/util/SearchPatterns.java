@@ -0,0 +1,46 @@
+package com.nlweb.common.util;
+
+import java.util.Locale;
+
+/** 검색어 → LIKE 패턴 변환 (pg_trgm 인덱스 검색용) */
+public final class SearchPatterns {
+
+    /** 트라이그램 인덱스를 사용할 수 있는 최소 검색어 길이 (미만이면 접두사 검색) */
+    public static final int MIN_TRIGRAM_LENGTH = 3;
+
+    /** 검색 결과 수 집계 상한 (상한을 넘으면 정확히 세지 않고 하한값으로 표시) */
+    public static final int COUNT_LIMIT = 1000;
+
+    private SearchPatterns() {
+    }
+
+    public static String normalize(String keyword) {
+        return keyword == null ? "" : keyword.trim();
+    }
+
+    public static boolean isTrigramSearchable(String keyword) {
+        return keyword.codePointCount(0, keyword.length()) >= MIN_TRIGRAM_LENGTH;
+    }
+
+    /** 부분 일치 패턴 (%keyword%) */
+    public static String contains(String keyword) {
+        return "%" + escape(keyword) + "%";
+    }
+
+    /** 접두사 패턴 (keyword%) */
+    public static String prefix(String keyword) {
+        return escape(keyword) + "%";
+    }
+
+    public static String lower(String pattern) {
+        return pattern.toLowerCase(Locale.ROOT);
+    }
+
+    /** LIKE 와일드카드 이스케이프 */
+    private static String escape(String keyword) {
+        return keyword.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+
+}
@@ -0,0 +1,155 @@
+package com.nlweb.config;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.nlweb.config.cache.CacheMetrics;
+import com.nlweb.config.cache.TwoLevelCacheManager;
+import com.nlweb.config.properties.NearCacheProperties;
+import com.nlweb.config.properties.NegativeCacheProperties;
+import com.nlweb.event.dto.EventDetailSnapshot;
+import com.nlweb.event.dto.EventParticipantSnapshot;
+import com.nlweb.event.dto.EventSnapshot;
+import com.nlweb.user.dto.UserSnapshot;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.support.NullValue;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 캐시 설정
+ * <p>
+ * 캐시에는 JPA 엔티티 대신 불변 스냅샷만 저장하고, 캐시별로 타입이 고정된 JSON 직렬화기를 사용한다.
+ * (엔티티 그래프 직렬화 및 지연 로딩 프록시 노출 방지)
+ * 자주 조회되는 캐시는 프로세스 내 L1 캐시를 앞에 두고, 무효화는 Redis pub/sub으로 다른 노드에 전파한다.
+ * "없음" 결과(null/빈 Optional)는 짧은 TTL로 캐시해 존재하지 않는 키 조회가 DB로 반복되지 않게 한다.
+ */
+@Configuration
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+
+    @Bean
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory,
+                                             CacheProperties cacheProperties,
+                                             NearCacheProperties nearCacheProperties,
+                                             NegativeCacheProperties negativeCacheProperties,
+                                             StringRedisTemplate stringRedisTemplate,
+                                             MeterRegistry meterRegistry) {
+        RedisCacheManager redisCacheManager = redisCacheManager(redisConnectionFactory, cacheProperties, negativeCacheProperties);
+        return new TwoLevelCacheManager(redisCacheManager, nearCacheProperties, negativeCacheProperties,
+                stringRedisTemplate, new CacheMetrics(meterRegistry));
+    }
+
+    /** Redis pub/sub 리스너 컨테이너 (L1 캐시 무효화 메시지 수신, 다른 구독자도 공유) */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                       TwoLevelCacheManager cacheManager,
+                                                                       NearCacheProperties nearCacheProperties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> cacheManager.onInvalidationMessage(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(nearCacheProperties.getInvalidationChannel()));
+        return container;
+    }
+
+    // ========================== Private Methods ==========================
+
+    private RedisCacheManager redisCacheManager(RedisConnectionFactory redisConnectionFactory,
+                                                CacheProperties cacheProperties,
+                                                NegativeCacheProperties negativeCacheProperties) {
+        ObjectMapper objectMapper = cacheObjectMapper();
+        RedisCacheConfiguration defaultConfig = defaultCacheConfiguration(cacheProperties, negativeCacheProperties);
+
+        Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
+
+        JavaType user = objectMapper.constructType(UserSnapshot.class);
+        JavaType users = listOf(objectMapper, UserSnapshot.class);
+        JavaType event = objectMapper.constructType(EventSnapshot.class);
+        JavaType events = listOf(objectMapper, EventSnapshot.class);
+        JavaType eventDetail = objectMapper.constructType(EventDetailSnapshot.class);
+        JavaType participant = objectMapper.constructType(EventParticipantSnapshot.class);
+        JavaType participants = listOf(objectMapper, EventParticipantSnapshot.class);
+
+        register(cacheConfigurations, defaultConfig, objectMapper, user, "user");
+        register(cacheConfigurations, defaultConfig, objectMapper, users,
+                "users:active", "users:pending", "users:session", "users:batch");
+        register(cacheConfigurations, defaultConfig, objectMapper, event, "event");
+        register(cacheConfigurations, defaultConfig, objectMapper, eventDetail, "eventDetail");
+        register(cacheConfigurations, defaultConfig, objectMapper, events,
+                "events", "events:active", "events:type");
+        register(cacheConfigurations, defaultConfig, objectMapper, participant, "eventParticipant");
+        register(cacheConfigurations, defaultConfig, objectMapper, participants,
+                "eventParticipantsByEvent", "eventParticipantsByUser");
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(redisConnectionFactory)
+                .cacheDefaults(defaultConfig)
+                .withInitialCacheConfigurations(cacheConfigurations)
+                .build();
+        redisCacheManager.afterPropertiesSet();
+        return redisCacheManager;
+    }
+
+    /** 기본 캐시 설정 (존재 여부 등 단순 값 캐시, "없음" 결과는 짧은 TTL) */
+    private RedisCacheConfiguration defaultCacheConfiguration(CacheProperties cacheProperties,
+                                                              NegativeCacheProperties negativeCacheProperties) {
+        RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig(getClass().getClassLoader());
+
+        CacheProperties.Redis redisProperties = cacheProperties.getRedis();
+        Duration ttl = redisProperties.getTimeToLive() != null ? redisProperties.getTimeToLive() : Duration.ZERO;
+        Duration negativeTtl = negativeCacheProperties.getTtl();
+        config = config.entryTtl((key, value) -> value == null || value instanceof NullValue ? negativeTtl : ttl);
+        if (!redisProperties.isCacheNullValues()) {
+            config = config.disableCachingNullValues();
+        }
+        if (redisProperties.getKeyPrefix() != null) {
+            config = config.prefixCacheNameWith(redisProperties.getKeyPrefix());
+        }
+        return config;
+    }
+
+    private void register(Map<String, RedisCacheConfiguration> cacheConfigurations,
+                          RedisCacheConfiguration defaultConfig,
+                          ObjectMapper objectMapper,
+                          JavaType type,
+                          String... cacheNames) {
+        RedisCacheConfiguration config = defaultConfig.serializeValuesWith(
+                RedisSerializationContext.SerializationPair.fromSerializer(
+                        new Jackson2JsonRedisSerializer<>(objectMapper, type)));
+
+        for (String cacheName : cacheNames) {
+            cacheConfigurations.put(cacheName, config);
+        }
+    }
+
+    private JavaType listOf(ObjectMapper objectMapper, Class<?> elementType) {
+        return objectMapper.getTypeFactory().constructCollectionType(List.class, elementType);
+    }
+
+    private ObjectMapper cacheObjectMapper() {
+        return new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.nlweb.config.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 캐시별 조회 결과 카운터 (nlweb.cache.lookups)
+ * - result: hit / negative_hit("없음" 결과 적중) / miss
+ * - level: local(L1) / remote(L2)
+ */
+public class CacheMetrics {
+
+    public static final String HIT = "hit";
+    public static final String NEGATIVE_HIT = "negative_hit";
+    public static final String MISS = "miss";
+
+    public static final String LOCAL = "local";
+    public static final String REMOTE = "remote";
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public CacheMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void record(String cacheName, String level, String result) {
+        counters.computeIfAbsent(cacheName + '|' + level + '|' + result, key -> Counter.builder("nlweb.cache.lookups")
+                .description("캐시 조회 결과")
+                .tag("cache", cacheName)
+                .tag("level", level)
+                .tag("result", result)
+                .register(meterRegistry)).increment();
+    }
+
+}
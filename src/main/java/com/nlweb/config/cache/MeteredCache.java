@@ -0,0 +1,98 @@
+package com.nlweb.config.cache;
+
+import org.springframework.cache.Cache;
+import java.util.concurrent.Callable;
+
+/** L1 없이 Redis만 쓰는 캐시에 조회 결과 카운터만 덧붙인 래퍼 */
+public class MeteredCache implements Cache {
+
+    private final Cache delegate;
+    private final CacheMetrics cacheMetrics;
+
+    MeteredCache(Cache delegate, CacheMetrics cacheMetrics) {
+        this.delegate = delegate;
+        this.cacheMetrics = cacheMetrics;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper wrapper = delegate.get(key);
+        if (wrapper == null) {
+            cacheMetrics.record(getName(), CacheMetrics.REMOTE, CacheMetrics.MISS);
+        } else {
+            cacheMetrics.record(getName(), CacheMetrics.REMOTE,
+                    wrapper.get() == null ? CacheMetrics.NEGATIVE_HIT : CacheMetrics.HIT);
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("캐시 값 타입이 일치하지 않습니다: " + type.getName() + " / " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        boolean[] loaded = new boolean[1];
+        T value = delegate.get(key, () -> {
+            loaded[0] = true;
+            return valueLoader.call();
+        });
+
+        if (loaded[0]) {
+            cacheMetrics.record(getName(), CacheMetrics.REMOTE, CacheMetrics.MISS);
+        } else {
+            cacheMetrics.record(getName(), CacheMetrics.REMOTE,
+                    value == null ? CacheMetrics.NEGATIVE_HIT : CacheMetrics.HIT);
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return delegate.invalidate();
+    }
+
+}
@@ -0,0 +1,208 @@
+package com.nlweb.config.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.cache.support.SimpleValueWrapper;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 2단계 캐시 (L1: 프로세스 내 Caffeine, L2: Redis)
+ * <p>
+ * 조회는 L1 → L2 순으로 하고, 변경(put/evict/clear)은 L2에 먼저 반영한 뒤
+ * 다른 노드의 L1이 무효화되도록 메시지를 발행한다.
+ * "없음" 결과(null)는 L1에 {@link NullValue}로 짧게 보관한다. (만료 시간은 매니저가 설정)
+ * L2 조회 도중 무효화 메시지가 도착하면 읽어 온 값을 L1에 남기지 않는다. (키 구간별 무효화 세대 비교)
+ */
+public class TwoLevelCache implements Cache {
+
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final String name;
+    private final Cache remote;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private final TwoLevelCacheManager cacheManager;
+    private final CacheMetrics cacheMetrics;
+
+    /** 무효화 세대 (키 해시 구간별 + 캐시 전체, 무효화마다 증가) */
+    private final AtomicLongArray keyGenerations = new AtomicLongArray(GENERATION_STRIPES);
+    private final AtomicLong clearGeneration = new AtomicLong();
+
+    TwoLevelCache(String name,
+                  Cache remote,
+                  com.github.benmanes.caffeine.cache.Cache<String, Object> local,
+                  TwoLevelCacheManager cacheManager,
+                  CacheMetrics cacheMetrics) {
+        this.name = name;
+        this.remote = remote;
+        this.local = local;
+        this.cacheManager = cacheManager;
+        this.cacheMetrics = cacheMetrics;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+
+        Object value = local.getIfPresent(localKey);
+        if (value != null) {
+            boolean negative = value == NullValue.INSTANCE;
+            cacheMetrics.record(name, CacheMetrics.LOCAL, negative ? CacheMetrics.NEGATIVE_HIT : CacheMetrics.HIT);
+            return new SimpleValueWrapper(negative ? null : value);
+        }
+
+        long generation = generation(localKey);
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper == null) {
+            cacheMetrics.record(name, CacheMetrics.REMOTE, CacheMetrics.MISS);
+            return null;
+        }
+
+        cacheMetrics.record(name, CacheMetrics.REMOTE, wrapper.get() == null ? CacheMetrics.NEGATIVE_HIT : CacheMetrics.HIT);
+        putLocal(localKey, wrapper.get(), generation);
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("캐시 값 타입이 일치하지 않습니다: " + type.getName() + " / " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = localKey(key);
+
+        Object value = local.getIfPresent(localKey);
+        if (value != null) {
+            boolean negative = value == NullValue.INSTANCE;
+            cacheMetrics.record(name, CacheMetrics.LOCAL, negative ? CacheMetrics.NEGATIVE_HIT : CacheMetrics.HIT);
+            return negative ? null : (T) value;
+        }
+
+        long generation = generation(localKey);
+        boolean[] loaded = new boolean[1];
+        T result = remote.get(key, () -> {
+            loaded[0] = true;
+            return valueLoader.call();
+        });
+
+        if (loaded[0]) {
+            cacheMetrics.record(name, CacheMetrics.REMOTE, CacheMetrics.MISS);
+        } else {
+            cacheMetrics.record(name, CacheMetrics.REMOTE, result == null ? CacheMetrics.NEGATIVE_HIT : CacheMetrics.HIT);
+        }
+        putLocal(localKey, result, generation);
+        return result;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        invalidateLocal(key);
+        cacheManager.publishEvict(name, localKey(key));
+        local.put(localKey(key), toLocalValue(value));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = remote.putIfAbsent(key, value);
+        invalidateLocal(key);
+        cacheManager.publishEvict(name, localKey(key));
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        invalidateLocal(key);
+        cacheManager.publishEvict(name, localKey(key));
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = remote.evictIfPresent(key);
+        invalidateLocal(key);
+        cacheManager.publishEvict(name, localKey(key));
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        clearLocal();
+        cacheManager.publishClear(name);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = remote.invalidate();
+        clearLocal();
+        cacheManager.publishClear(name);
+        return invalidated;
+    }
+
+    /** L1 항목 무효화 (다른 노드의 무효화 메시지 수신 시, 세대를 먼저 올려 진행 중인 L2 조회 결과 적재를 막음) */
+    void invalidateLocal(Object key) {
+        String localKey = localKey(key);
+        keyGenerations.incrementAndGet(stripe(localKey));
+        local.invalidate(localKey);
+    }
+
+    /** L1 전체 무효화 */
+    void clearLocal() {
+        clearGeneration.incrementAndGet();
+        local.invalidateAll();
+    }
+
+    private long generation(String localKey) {
+        return clearGeneration.get() + keyGenerations.get(stripe(localKey));
+    }
+
+    /**
+     * L2 조회 결과를 L1에 적재 (조회 시작 후 무효화가 있었으면 적재하지 않음)
+     * <p>
+     * 적재 후 세대를 다시 확인해, 확인과 적재 사이에 끼어든 무효화도 놓치지 않는다.
+     */
+    private void putLocal(String localKey, Object value, long generation) {
+        if (generation(localKey) != generation) {
+            return;
+        }
+        local.put(localKey, toLocalValue(value));
+        if (generation(localKey) != generation) {
+            local.invalidate(localKey);
+        }
+    }
+
+    private static int stripe(String localKey) {
+        return (localKey.hashCode() & Integer.MAX_VALUE) % GENERATION_STRIPES;
+    }
+
+    private static Object toLocalValue(Object value) {
+        return value != null ? value : NullValue.INSTANCE;
+    }
+
+    /** Redis 키와 동일한 문자열 표현으로 L1 키를 정규화 */
+    private String localKey(Object key) {
+        return String.valueOf(key);
+    }
+
+}
@@ -0,0 +1,135 @@
+package com.nlweb.config.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.nlweb.config.properties.NearCacheProperties;
+import com.nlweb.config.properties.NegativeCacheProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * L1(Caffeine) + L2(Redis) 캐시 매니저
+ * <p>
+ * L1 설정이 있는 캐시만 2단계로 감싸고, 나머지는 조회 카운터만 덧붙인 Redis 캐시를 반환한다.
+ * "없음" 결과는 L1에서 별도의 짧은 만료 시간을 적용한다.
+ * 무효화는 Redis pub/sub 채널로 전파되며, 자신이 발행한 메시지는 무시한다.
+ * 메시지 형식: {nodeId}|{cacheName}[|{key}] (key가 없으면 캐시 전체 무효화)
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager {
+
+    private static final String SEPARATOR = "|";
+
+    private final CacheManager remoteCacheManager;
+    private final NearCacheProperties nearCacheProperties;
+    private final NegativeCacheProperties negativeCacheProperties;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CacheMetrics cacheMetrics;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager remoteCacheManager,
+                                NearCacheProperties nearCacheProperties,
+                                NegativeCacheProperties negativeCacheProperties,
+                                StringRedisTemplate stringRedisTemplate,
+                                CacheMetrics cacheMetrics) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.nearCacheProperties = nearCacheProperties;
+        this.negativeCacheProperties = negativeCacheProperties;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.cacheMetrics = cacheMetrics;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null) {
+            return null;
+        }
+
+        NearCacheProperties.Spec spec = nearCacheProperties.isEnabled() ? nearCacheProperties.findSpec(name) : null;
+        if (spec == null) {
+            return caches.computeIfAbsent(name, cacheName -> new MeteredCache(remote, cacheMetrics));
+        }
+
+        return caches.computeIfAbsent(name, cacheName -> new TwoLevelCache(cacheName, remote, Caffeine.newBuilder()
+                .expireAfter(localExpiry(spec))
+                .maximumSize(spec.getMaximumSize())
+                .build(), this, cacheMetrics));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    /** 무효화 메시지 수신 처리 */
+    public void onInvalidationMessage(String message) {
+        String[] parts = message.split("\\" + SEPARATOR, 3);
+        if (parts.length < 2 || nodeId.equals(parts[0])) {
+            return;
+        }
+
+        if (!(caches.get(parts[1]) instanceof TwoLevelCache cache)) {
+            return;
+        }
+
+        if (parts.length == 2) {
+            cache.clearLocal();
+        } else {
+            cache.invalidateLocal(parts[2]);
+        }
+    }
+
+    void publishEvict(String cacheName, String key) {
+        publish(nodeId + SEPARATOR + cacheName + SEPARATOR + key);
+    }
+
+    void publishClear(String cacheName) {
+        publish(nodeId + SEPARATOR + cacheName);
+    }
+
+    /** 일반 값은 캐시별 TTL, "없음" 결과는 그보다 짧은 TTL (쓰기 기준) */
+    private Expiry<String, Object> localExpiry(NearCacheProperties.Spec spec) {
+        long ttlNanos = spec.getTtl().toNanos();
+        long negativeTtlNanos = Math.min(ttlNanos, negativeCacheProperties.getLocalTtl().toNanos());
+
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(String key, Object value, long currentTime) {
+                return value == NullValue.INSTANCE ? negativeTtlNanos : ttlNanos;
+            }
+
+            @Override
+            public long expireAfterUpdate(String key, Object value, long currentTime, long currentDuration) {
+                return expireAfterCreate(key, value, currentTime);
+            }
+
+            @Override
+            public long expireAfterRead(String key, Object value, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+
+    private void publish(String message) {
+        try {
+            stringRedisTemplate.convertAndSend(nearCacheProperties.getInvalidationChannel(), message);
+        } catch (Exception e) {
+            log.warn("캐시 무효화 메시지 발행 실패: {} - {}", message, e.getMessage());
+        }
+    }
+
+}
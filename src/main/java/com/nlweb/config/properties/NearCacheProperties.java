@@ -0,0 +1,63 @@
+package com.nlweb.config.properties;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "nlweb.cache.near")
+public class NearCacheProperties {
+
+    /** 로컬(L1) 캐시 사용 여부 */
+    private boolean enabled = true;
+
+    /** 노드 간 무효화 메시지 채널 */
+    private String invalidationChannel = "nlweb:cache:invalidation";
+
+    /** 캐시별 L1 설정 (캐시 이름 또는 'events:*' 형태의 접두사 패턴) */
+    private Map<String, Spec> caches = new LinkedHashMap<>(Map.of(
+            "user", new Spec(Duration.ofSeconds(60), 10_000),
+            "event", new Spec(Duration.ofSeconds(30), 5_000),
+            "eventDetail", new Spec(Duration.ofSeconds(10), 1_000),
+            "events:*", new Spec(Duration.ofSeconds(10), 200)
+    ));
+
+    /** 캐시 이름에 해당하는 L1 설정 조회 (없으면 L1 미사용) */
+    public Spec findSpec(String cacheName) {
+        Spec spec = caches.get(cacheName);
+        if (spec != null) {
+            return spec;
+        }
+
+        for (Map.Entry<String, Spec> entry : caches.entrySet()) {
+            String pattern = entry.getKey();
+            if (pattern.endsWith("*") && cacheName.startsWith(pattern.substring(0, pattern.length() - 1))) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Spec {
+
+        /** L1 항목 만료 시간 (쓰기 기준) */
+        private Duration ttl = Duration.ofSeconds(30);
+
+        /** L1 최대 항목 수 */
+        private long maximumSize = 1_000;
+
+    }
+
+}
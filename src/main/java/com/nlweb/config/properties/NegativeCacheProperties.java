@@ -0,0 +1,21 @@
+package com.nlweb.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "nlweb.cache.negative")
+public class NegativeCacheProperties {
+
+    /** "없음" 결과(null/빈 Optional) Redis 보관 시간 */
+    private Duration ttl = Duration.ofSeconds(30);
+
+    /** "없음" 결과 L1 보관 시간 (캐시별 L1 TTL보다 길면 L1 TTL 적용) */
+    private Duration localTtl = Duration.ofSeconds(10);
+
+}
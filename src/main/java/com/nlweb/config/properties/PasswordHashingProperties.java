@@ -0,0 +1,39 @@
+package com.nlweb.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "nlweb.auth.password-hashing")
+public class PasswordHashingProperties {
+
+    /** 해싱 전용 스레드 수 */
+    private int threads = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+
+    /** 대기 가능한 해싱 작업 수 (초과 시 429) */
+    private int queueCapacity = 64;
+
+    /** 요청 스레드가 해싱 결과를 기다리는 최대 시간 */
+    private Duration waitTimeout = Duration.ofSeconds(5);
+
+    /** BCrypt 강도 (모든 노드가 같은 값을 쓰도록 설정으로 고정, calibrate가 꺼져 있을 때 적용) */
+    private int strength = 12;
+
+    /** 시작 시 호스트 성능으로 강도 보정 여부 (노드마다 값이 달라질 수 있어 단일 노드에서만 사용) */
+    private boolean calibrate = false;
+
+    /** 해시 1회 목표 소요 시간 (calibrate 사용 시 BCrypt 강도 보정 기준) */
+    private Duration targetDuration = Duration.ofMillis(250);
+
+    /** BCrypt 최소 강도 */
+    private int minStrength = 10;
+
+    /** BCrypt 최대 강도 */
+    private int maxStrength = 14;
+
+}
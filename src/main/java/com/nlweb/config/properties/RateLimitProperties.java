@@ -0,0 +1,67 @@
+package com.nlweb.config.properties;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "nlweb.auth.rate-limit")
+public class RateLimitProperties {
+
+    /** 요청 제한 사용 여부 */
+    private boolean enabled = true;
+
+    /** Redis 장애 시 로컬 버킷만으로 허용할지 여부 */
+    private boolean failOpen = true;
+
+    /** Redis 키 접두사 */
+    private String keyPrefix = "auth:rate:";
+
+    /** 엔드포인트별 제한 (login, register, tokens) */
+    private Map<String, Policy> endpoints = new LinkedHashMap<>(Map.of(
+            "login", new Policy(new Limit(30, Duration.ofMinutes(1)), new Limit(10, Duration.ofMinutes(5))),
+            "register", new Policy(new Limit(10, Duration.ofMinutes(10)), new Limit(3, Duration.ofMinutes(10))),
+            "tokens", new Policy(new Limit(60, Duration.ofMinutes(1)), new Limit(20, Duration.ofMinutes(1)))
+    ));
+
+    public Policy findPolicy(String endpoint) {
+        return endpoints.get(endpoint);
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Policy {
+
+        /** IP별 제한 */
+        private Limit ip;
+
+        /** 식별자(학번/이메일, 토큰 재발급은 서명이 확인된 토큰의 학번)별 제한 */
+        private Limit identifier;
+
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limit {
+
+        /** 구간 내 최대 요청 수 */
+        private int maxRequests;
+
+        /** 슬라이딩 구간 길이 */
+        private Duration window;
+
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.nlweb.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "nlweb.auth.security-stamp")
+public class SecurityStampProperties {
+
+    /** 노드 간 보안 스탬프 변경 전파 채널 */
+    private String channel = "nlweb:auth:security-stamp";
+
+    /** 로컬 스탬프 캐시 유지 시간 (전파 메시지 유실 시 최대 지연) */
+    private Duration localTtl = Duration.ofMinutes(5);
+
+    /** 로컬 스탬프 캐시 최대 항목 수 */
+    private long maximumSize = 50_000;
+
+}
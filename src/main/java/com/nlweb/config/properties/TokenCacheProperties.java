@@ -0,0 +1,20 @@
+package com.nlweb.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "nlweb.auth.token-cache")
+public class TokenCacheProperties {
+
+    /** 검증된 토큰 캐시 사용 여부 */
+    private boolean enabled = true;
+
+    /** 캐시 최대 항목 수 (항목은 토큰 만료 시각에 함께 만료) */
+    private long maximumSize = 50_000;
+
+}
@@ -0,0 +1,30 @@
+package com.nlweb.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "nlweb.auth.revocation")
+public class TokenRevocationProperties {
+
+    /** 노드 간 토큰 폐기 전파 채널 */
+    private String channel = "nlweb:auth:revocation";
+
+    /** 필터 파티션 단위 (토큰 만료 시각 기준) */
+    private Duration partitionDuration = Duration.ofMinutes(15);
+
+    /** 파티션당 예상 폐기 토큰 수 */
+    private int expectedInsertionsPerPartition = 10_000;
+
+    /** 필터 목표 오탐률 */
+    private double falsePositiveRate = 0.001;
+
+    /** 시작 시 블랙리스트 SCAN 배치 크기 */
+    private int scanBatchSize = 500;
+
+}
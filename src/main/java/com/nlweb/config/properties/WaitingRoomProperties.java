@@ -0,0 +1,36 @@
+package com.nlweb.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "nlweb.waiting-room")
+public class WaitingRoomProperties {
+
+    /** 이벤트별 대기열 최대 길이 */
+    private int queueCapacity = 1000;
+
+    /** 한 번에 일괄 처리할 신청 수 */
+    private int batchSize = 50;
+
+    /** 대기열 소비 스레드 수 */
+    private int consumerThreads = 4;
+
+    /** 처리 완료된 티켓 보관 시간 */
+    private Duration ticketRetention = Duration.ofMinutes(10);
+
+    /** 처리되지 않은 대기 티켓 만료 시간 (지나면 거절 처리) */
+    private Duration pendingTimeout = Duration.ofMinutes(5);
+
+    /** 대기열 열림 상태 유지 시간 (닫지 않아도 만료) */
+    private Duration roomTtl = Duration.ofDays(1);
+
+    /** 이벤트별 소비자 잠금 유지 시간 (배치마다 연장) */
+    private Duration consumerLockTtl = Duration.ofSeconds(30);
+
+}
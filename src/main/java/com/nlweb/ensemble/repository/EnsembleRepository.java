@@ -1,7 +1,8 @@
 package com.nlweb.ensemble.repository;
 
+import com.nlweb.common.dto.EstimatedPage;
+import com.nlweb.common.util.SearchPatterns;
 import com.nlweb.ensemble.entity.Ensemble;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -29,8 +30,33 @@ public interface EnsembleRepository extends JpaRepository<Ensemble, Long> {
     /** 제목으로 합주 목록 조회 */
     List<Ensemble> findByTitleContainingIgnoreCase(String title);
 
-    /** 합주 검색 */
-    @Query("SELECT e FROM Ensemble e WHERE (e.artist LIKE %:keyword% OR e.title LIKE %:keyword%) ORDER BY e.createdAt DESC")
-    Page<Ensemble> searchEnsembles(@Param("keyword") String keyword, Pageable pageable);
+    /** 합주 검색 (아티스트/제목, 3글자 이상은 pg_trgm 부분 일치, 미만은 접두사 일치, 정확도 순 정렬, 전체 건수는 상한까지만 집계) */
+    default EstimatedPage<Ensemble> searchEnsembles(String keyword, Pageable pageable) {
+        String normalized = SearchPatterns.lower(SearchPatterns.normalize(keyword));
+        String prefix = SearchPatterns.prefix(normalized);
+        String pattern = SearchPatterns.isTrigramSearchable(normalized) ? SearchPatterns.contains(normalized) : prefix;
+
+        List<Ensemble> content = searchEnsembles(normalized, pattern, prefix, pageable.getPageSize(), pageable.getOffset());
+        return EstimatedPage.of(content, pageable,
+                () -> countEnsembles(pattern, SearchPatterns.COUNT_LIMIT + 1), SearchPatterns.COUNT_LIMIT);
+    }
+
+    @Query(value = "SELECT e.* FROM ensembles e " +
+            "WHERE lower(e.artist) LIKE :pattern OR lower(e.title) LIKE :pattern " +
+            "ORDER BY CASE WHEN lower(e.artist) = :keyword OR lower(e.title) = :keyword THEN 0 " +
+            "              WHEN lower(e.artist) LIKE :prefix OR lower(e.title) LIKE :prefix THEN 1 ELSE 2 END, " +
+            "         greatest(similarity(lower(e.artist), :keyword), similarity(lower(e.title), :keyword)) DESC, " +
+            "         e.created_at DESC " +
+            "LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<Ensemble> searchEnsembles(@Param("keyword") String keyword,
+                                   @Param("pattern") String pattern,
+                                   @Param("prefix") String prefix,
+                                   @Param("limit") int limit,
+                                   @Param("offset") long offset);
+
+    @Query(value = "SELECT count(*) FROM (SELECT 1 FROM ensembles e " +
+            "WHERE lower(e.artist) LIKE :pattern OR lower(e.title) LIKE :pattern " +
+            "LIMIT :countLimit) matched", nativeQuery = true)
+    long countEnsembles(@Param("pattern") String pattern, @Param("countLimit") int countLimit);
 
 }
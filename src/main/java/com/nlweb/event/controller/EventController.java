@@ -5,6 +5,7 @@ import com.nlweb.event.dto.*;
 import com.nlweb.common.dto.*;
 import com.nlweb.event.service.EventParticipantService;
 import com.nlweb.event.service.EventService;
+import com.nlweb.event.service.EventWaitingRoomService;
 import com.nlweb.common.security.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -12,12 +13,14 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.coyote.Response;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import jakarta.validation.Valid;
 import java.util.List;
 
@@ -31,6 +34,7 @@ public class EventController {
 
     private final EventService eventService;
     private final EventParticipantService eventParticipantService;
+    private final EventWaitingRoomService eventWaitingRoomService;
 
     /** 이벤트 생성 */
     @Operation(summary = "이벤트 생성", description = "새로운 이벤트를 생성합니다.")
@@ -61,6 +65,23 @@ public class EventController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    /** 이벤트 상세 조회 (이벤트, 하위 이벤트, 참가자, 정원 상태를 한 번에, ETag 재검증 지원) */
+    @Operation(summary = "이벤트 상세 조회", description = "이벤트와 하위 이벤트, 참가자 목록, 정원 상태를 한 번에 조회합니다. If-None-Match로 재검증하면 변경이 없을 때 304를 반환합니다.")
+    @GetMapping("/{eventId}/detail")
+    public ResponseEntity<ApiResponse<EventDetailResponse>> getEventDetail(
+            @PathVariable("eventId") Long eventId,
+            @AuthenticationPrincipal CustomUserDetails principal,
+            WebRequest webRequest) {
+        EventDetailResponse response = eventService.getEventDetail(eventId, principal != null && principal.isAdmin());
+        if (webRequest.checkNotModified(response.getEtag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(response.getEtag())
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(ApiResponse.success(response));
+    }
+
     /** 모든 활성화 이벤트 조회 */
     @Operation(summary = "모든 활성화 이벤트 조회", description = "활성화된 모든 이벤트를 조회합니다.")
     @GetMapping("/active")
@@ -143,12 +164,12 @@ public class EventController {
     @Operation(summary = "이벤트 삭제", description = "기존 이벤트를 삭제합니다.")
     @PreAuthorize("hasRole('ADMIN')")
     @DeleteMapping("/{eventId}")
-    public ResponseEntity<ApiResponse<Void>> deleteEvent(
+    public ResponseEntity<ApiResponse<DeleteEventResponse>> deleteEvent(
             @PathVariable("eventId") Long eventId,
             @AuthenticationPrincipal CustomUserDetails principal) {
         String deletedBy = principal.getUsername();
-        eventService.deleteEvent(eventId, deletedBy);
-        return ResponseEntity.ok(ApiResponse.success(null));
+        DeleteEventResponse response = eventService.deleteEvent(eventId, deletedBy);
+        return ResponseEntity.ok(ApiResponse.success(response, response.getMessage()));
     }
 
     /** 이벤트 ID로 모든 참가자 조회 */
@@ -195,10 +216,48 @@ public class EventController {
             @Valid @RequestBody CreateEventParticipantRequest request,
             @AuthenticationPrincipal CustomUserDetails principal) {
         String studentId = principal.getUsername();
+        if (eventWaitingRoomService.isOpen(eventId)) {
+            EventApplicationTicket ticket = eventWaitingRoomService.enqueue(eventId, studentId);
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(ApiResponse.success(CreateEventParticipantResponse.fromTicket(ticket), "대기열에 등록되었습니다."));
+        }
         CreateEventParticipantResponse response = eventParticipantService.createEventParticipant(studentId, eventId, request, true);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    /** 대기열 신청 결과 조회 (사용자 본인) */
+    @Operation(summary = "대기열 신청 결과 조회", description = "대기열 티켓으로 이벤트 참가 신청 처리 결과를 조회합니다.")
+    @GetMapping("/{eventId}/participants/me/tickets/{ticketId}")
+    public ResponseEntity<ApiResponse<EventApplicationTicket>> getApplicationTicket(
+            @PathVariable("eventId") Long eventId,
+            @PathVariable("ticketId") String ticketId,
+            @AuthenticationPrincipal CustomUserDetails principal) {
+        EventApplicationTicket response = eventWaitingRoomService.getTicket(eventId, ticketId, principal.getUsername());
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /** 이벤트 대기열 열기 */
+    @Operation(summary = "이벤트 대기열 열기", description = "신청이 몰리는 이벤트의 참가 신청을 대기열로 받아 일괄 처리합니다.")
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/{eventId}/waiting-room")
+    public ResponseEntity<ApiResponse<Void>> openWaitingRoom(
+            @PathVariable("eventId") Long eventId,
+            @AuthenticationPrincipal CustomUserDetails principal) {
+        eventWaitingRoomService.open(eventId, principal.getUsername());
+        return ResponseEntity.ok(ApiResponse.success(null));
+    }
+
+    /** 이벤트 대기열 닫기 */
+    @Operation(summary = "이벤트 대기열 닫기", description = "대기열을 닫고 참가 신청을 즉시 처리 방식으로 되돌립니다.")
+    @PreAuthorize("hasRole('ADMIN')")
+    @DeleteMapping("/{eventId}/waiting-room")
+    public ResponseEntity<ApiResponse<Void>> closeWaitingRoom(
+            @PathVariable("eventId") Long eventId,
+            @AuthenticationPrincipal CustomUserDetails principal) {
+        eventWaitingRoomService.close(eventId, principal.getUsername());
+        return ResponseEntity.ok(ApiResponse.success(null));
+    }
+
     /** 이벤트 참가 신청 취소 (사용자 본인) */
     @Operation(summary = "이벤트 참가 신청 취소 (사용자 본인)", description = "사용자가 본인의 학번으로 이벤트 참가 신청을 취소합니다.")
     @DeleteMapping("/{eventId}/participants/me")
@@ -0,0 +1,24 @@
+package com.nlweb.event.dto;
+
+import lombok.*;
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+public class CreateEventParticipantBatchResult {
+
+    /** 학번별 등록된 참가자 정보 */
+    private final Map<String, EventParticipantInfo> accepted = new HashMap<>();
+
+    /** 학번별 거절 사유 */
+    private final Map<String, String> rejected = new HashMap<>();
+
+    public void accept(String studentId, EventParticipantInfo participantInfo) {
+        accepted.put(studentId, participantInfo);
+    }
+
+    public void reject(String studentId, String reason) {
+        rejected.put(studentId, reason);
+    }
+
+}
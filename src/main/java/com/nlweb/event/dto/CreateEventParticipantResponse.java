@@ -9,10 +9,25 @@ public class CreateEventParticipantResponse {
 
     EventParticipantInfo participantInfo;
 
+    EventApplicationTicket ticket;
+
     public static CreateEventParticipantResponse fromEntity(EventParticipant participant, boolean includePrivateInfo) {
         return CreateEventParticipantResponse.builder()
                 .participantInfo(EventParticipantInfo.fromEntity(participant, includePrivateInfo))
                 .build();
     }
 
+    public static CreateEventParticipantResponse fromParticipantInfo(EventParticipantInfo participantInfo) {
+        return CreateEventParticipantResponse.builder()
+                .participantInfo(participantInfo)
+                .build();
+    }
+
+    public static CreateEventParticipantResponse fromTicket(EventApplicationTicket ticket) {
+        return CreateEventParticipantResponse.builder()
+                .participantInfo(ticket.getParticipantInfo())
+                .ticket(ticket)
+                .build();
+    }
+
 }
@@ -1,4 +1,15 @@
 package com.nlweb.event.dto;
 
+import lombok.*;
+
+@Data
+@Builder
 public class DeleteEventResponse {
+
+    private Long eventId;
+    private String title;
+    private int deletedEventCount;
+    private int deletedParticipantCount;
+    private String message;
+
 }
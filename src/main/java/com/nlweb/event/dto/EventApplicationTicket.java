@@ -0,0 +1,28 @@
+package com.nlweb.event.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.nlweb.common.enums.EventApplicationStatus;
+import lombok.*;
+import java.time.LocalDateTime;
+
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EventApplicationTicket {
+
+    private String ticketId;
+    private Long eventId;
+    private String studentId;
+    private EventApplicationStatus status;
+    private String message;
+    private EventParticipantInfo participantInfo;
+    private LocalDateTime requestedAt;
+    private LocalDateTime processedAt;
+
+    public boolean isProcessed() {
+        return status != EventApplicationStatus.PENDING;
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.nlweb.event.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.*;
+import java.util.List;
+
+@Data
+@Builder
+public class EventDetailResponse {
+
+    private EventInfo event;
+    private List<EventInfo> childEvents;
+    private List<EventParticipantInfo> participants;
+    private Capacity capacity;
+
+    /** 응답 ETag (본문에는 포함하지 않음) */
+    @JsonIgnore
+    private String etag;
+
+    @Data
+    @Builder
+    public static class Capacity {
+
+        private Long rootEventId;
+        private Integer maxParticipants;
+        private Integer confirmedParticipants;
+        private Integer remainingSeats;
+        private Boolean isFull;
+
+    }
+
+}
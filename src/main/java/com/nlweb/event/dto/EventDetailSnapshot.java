@@ -0,0 +1,57 @@
+package com.nlweb.event.dto;
+
+import com.nlweb.user.dto.UserSnapshot;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+
+/** 캐시 저장용 이벤트 상세 집계 (이벤트, 최상위 이벤트, 하위 이벤트, 최상위 이벤트 참가자를 한 단위로 저장) */
+public record EventDetailSnapshot(
+        EventSnapshot event,
+        Long rootEventId,
+        EventSnapshot rootEvent,
+        List<EventSnapshot> childEvents,
+        List<EventParticipantSnapshot> participants,
+        String contentHash
+) {
+
+    public static EventDetailSnapshot of(EventSnapshot eventSnapshot, EventSnapshot rootEvent,
+                                         List<EventSnapshot> childEvents, List<EventParticipantSnapshot> participants) {
+        List<EventSnapshot> childSnapshots = childEvents.stream()
+                .sorted(Comparator.comparing(EventSnapshot::startDateTime).thenComparing(EventSnapshot::id))
+                .toList();
+        List<EventParticipantSnapshot> participantSnapshots = participants.stream()
+                .sorted(Comparator.comparing(EventParticipantSnapshot::appliedAt).thenComparing(p -> p.user().id()))
+                .toList();
+
+        return new EventDetailSnapshot(eventSnapshot, rootEvent.id(), rootEvent, childSnapshots, participantSnapshots,
+                hash(eventSnapshot, rootEvent, childSnapshots, participantSnapshots));
+    }
+
+    /** 내용 해시 (이벤트/최상위 이벤트/하위 이벤트 버전, 정원, 참가자와 참가자 사용자 버전 기준, ETag 생성용) */
+    private static String hash(EventSnapshot event, EventSnapshot rootEvent,
+                               List<EventSnapshot> childEvents, List<EventParticipantSnapshot> participants) {
+        StringBuilder source = new StringBuilder();
+        source.append(event.id()).append(':').append(event.version());
+        source.append('^').append(rootEvent.id()).append(':').append(rootEvent.version()).append('/').append(rootEvent.maxParticipants());
+        for (EventSnapshot child : childEvents) {
+            source.append('|').append(child.id()).append(':').append(child.version());
+        }
+        for (EventParticipantSnapshot participant : participants) {
+            UserSnapshot user = participant.user();
+            source.append('|').append(user.id()).append(':').append(user.version()).append(':').append(user.adminRole())
+                    .append('@').append(participant.appliedAt());
+        }
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(source.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+}
@@ -9,6 +9,7 @@ import java.time.LocalDateTime;
 @Builder
 public class EventInfo {
 
+    private Long id;
     private String title;
     private String description;
     private String eventType;
@@ -26,6 +27,7 @@ public class EventInfo {
 
     public static EventInfo fromEntity(Event event) {
         return EventInfo.builder()
+                .id(event.getId())
                 .title(event.getTitle())
                 .description(event.getDescription())
                 .eventType(event.getEventType().toString())
@@ -43,4 +45,23 @@ public class EventInfo {
                 .build();
     }
 
+    public static EventInfo fromSnapshot(EventSnapshot event) {
+        return EventInfo.builder()
+                .id(event.id())
+                .title(event.title())
+                .description(event.description())
+                .eventType(event.eventType().toString())
+                .isActive(event.isActive())
+                .maxParticipants(event.maxParticipants())
+                .currentParticipants(event.currentParticipants())
+                .startDateTime(event.startDateTime())
+                .endDateTime(event.endDateTime())
+                .parentEventId(event.parentEventId())
+                .rootEventId(event.rootEventId())
+                .depth(event.depth())
+                .childEventIds(event.childEventIds())
+                .createdByStudentId(event.createdByStudentId())
+                .build();
+    }
+
 }
@@ -2,11 +2,14 @@ package com.nlweb.event.dto;
 
 import com.nlweb.event.entity.EventParticipant;
 import com.nlweb.user.dto.UserInfo;
+import com.nlweb.user.dto.UserSnapshot;
 import lombok.*;
 import java.time.LocalDateTime;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class EventParticipantInfo {
 
     private Long EventId;
@@ -22,4 +25,16 @@ public class EventParticipantInfo {
                 .build();
     }
 
+    public static EventParticipantInfo fromSnapshot(EventParticipantSnapshot participant, boolean includePrivateInfo) {
+        return fromSnapshot(participant.eventId(), participant.user(), includePrivateInfo);
+    }
+
+    public static EventParticipantInfo fromSnapshot(Long eventId, UserSnapshot user, boolean includePrivateInfo) {
+        return EventParticipantInfo.builder()
+                .EventId(eventId)
+                .userId(user.id())
+                .user(UserInfo.fromSnapshot(user, includePrivateInfo))
+                .build();
+    }
+
 }
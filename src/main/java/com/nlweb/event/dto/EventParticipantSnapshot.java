@@ -0,0 +1,38 @@
+package com.nlweb.event.dto;
+
+import com.nlweb.common.enums.UserSessionType;
+import com.nlweb.common.enums.UserStatus;
+import com.nlweb.event.entity.EventParticipant;
+import com.nlweb.user.dto.UserSnapshot;
+import java.time.LocalDateTime;
+
+/** 캐시 저장용 이벤트 참가자 스냅샷 */
+public record EventParticipantSnapshot(
+        Long eventId,
+        UserSnapshot user,
+        LocalDateTime appliedAt
+) {
+
+    /** JPQL 프로젝션용 생성자 (참가 정보 + 사용자 스냅샷 컬럼) */
+    public EventParticipantSnapshot(Long eventId, LocalDateTime appliedAt,
+                                    Long userId, String studentId, String username, Integer batch,
+                                    UserSessionType session, String phone, String email, UserStatus status,
+                                    Boolean isVocalable, Boolean isAdmin,
+                                    String adminRole, String adminAppointedBy, String adminAppointmentReason,
+                                    LocalDateTime adminCreatedAt, LocalDateTime adminUpdatedAt,
+                                    LocalDateTime lastLogin, LocalDateTime createdAt, Long version) {
+        this(eventId,
+                new UserSnapshot(userId, studentId, username, batch, session, phone, email, status, isVocalable, isAdmin,
+                        adminRole, adminAppointedBy, adminAppointmentReason, adminCreatedAt, adminUpdatedAt, lastLogin, createdAt, version),
+                appliedAt);
+    }
+
+    public static EventParticipantSnapshot from(EventParticipant participant) {
+        return new EventParticipantSnapshot(
+                participant.getEvent().getId(),
+                UserSnapshot.from(participant.getUser()),
+                participant.getAppliedAt()
+        );
+    }
+
+}
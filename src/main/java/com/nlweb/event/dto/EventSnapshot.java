@@ -0,0 +1,78 @@
+package com.nlweb.event.dto;
+
+import com.nlweb.common.enums.EventType;
+import com.nlweb.event.entity.Event;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/** 캐시 저장용 이벤트 스냅샷 (JPA 엔티티와 분리된 불변 값) */
+public record EventSnapshot(
+        Long id,
+        String title,
+        String description,
+        EventType eventType,
+        Boolean isActive,
+        Integer maxParticipants,
+        Integer currentParticipants,
+        LocalDateTime startDateTime,
+        LocalDateTime endDateTime,
+        Long parentEventId,
+        Long rootEventId,
+        Integer depth,
+        List<Long> childEventIds,
+        String createdByStudentId,
+        Long version
+) {
+
+    /** JPQL 프로젝션용 생성자 (하위 이벤트 ID는 별도 조회 후 {@link #withChildEventIds}로 채움) */
+    public EventSnapshot(Long id, String title, String description, EventType eventType, Boolean isActive,
+                         Integer maxParticipants, Integer currentParticipants,
+                         LocalDateTime startDateTime, LocalDateTime endDateTime,
+                         Long parentEventId, Long rootEventId, Integer depth,
+                         String createdByStudentId, Long version) {
+        this(id, title, description, eventType, isActive, maxParticipants, currentParticipants,
+                startDateTime, endDateTime, parentEventId, rootEventId, depth, List.of(), createdByStudentId, version);
+    }
+
+    public static EventSnapshot from(Event event) {
+        return new EventSnapshot(
+                event.getId(),
+                event.getTitle(),
+                event.getDescription(),
+                event.getEventType(),
+                event.getIsActive(),
+                event.getMaxParticipants(),
+                event.getCurrentParticipants(),
+                event.getStartDateTime(),
+                event.getEndDateTime(),
+                event.getParentEvent() != null ? event.getParentEvent().getId() : null,
+                event.getRootEvent() != null ? event.getRootEvent().getId() : null,
+                event.getDepth(),
+                event.getChildEvents() != null ? event.getChildEvents().stream().map(Event::getId).toList() : null,
+                event.getCreatedBy() != null ? event.getCreatedBy().getStudentId() : null,
+                event.getVersion()
+        );
+    }
+
+    /** 참가자 수만 바꾼 스냅샷 (목록 캐시를 무효화하지 않고 최신 참가자 수를 덧씌울 때 사용) */
+    public EventSnapshot withCurrentParticipants(Integer currentParticipants) {
+        if (Objects.equals(this.currentParticipants, currentParticipants)) {
+            return this;
+        }
+        return new EventSnapshot(id, title, description, eventType, isActive, maxParticipants, currentParticipants,
+                startDateTime, endDateTime, parentEventId, rootEventId, depth, childEventIds, createdByStudentId, version);
+    }
+
+    /** 하위 이벤트 ID만 바꾼 스냅샷 */
+    public EventSnapshot withChildEventIds(List<Long> childEventIds) {
+        return new EventSnapshot(id, title, description, eventType, isActive, maxParticipants, currentParticipants,
+                startDateTime, endDateTime, parentEventId, rootEventId, depth, List.copyOf(childEventIds), createdByStudentId, version);
+    }
+
+    /** 참가자가 등록되는 최상위 이벤트 ID */
+    public Long effectiveRootEventId() {
+        return rootEventId != null ? rootEventId : id;
+    }
+
+}
@@ -76,7 +76,8 @@ public class Event implements Serializable {
     @Column(name = "max_participants", nullable = false)
     private Integer maxParticipants;
 
-    @Column(name = "current_participants", nullable = false)
+    // 참가자 수는 EventSeatReservationService가 벌크 업데이트로만 반영 (버전 충돌 방지)
+    @Column(name = "current_participants", nullable = false, updatable = false)
     private Integer currentParticipants;
 
     @CreatedDate
@@ -117,16 +118,6 @@ public class Event implements Serializable {
         this.isActive = false;
     }
 
-    public void incrementParticipants() {
-        this.currentParticipants++;
-    }
-
-    public void decrementParticipants() {
-        if (this.currentParticipants > 0) {
-            this.currentParticipants--;
-        }
-    }
-
     public boolean isActive() {
         return this.isActive;
     }
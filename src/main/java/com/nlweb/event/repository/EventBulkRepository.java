@@ -0,0 +1,73 @@
+package com.nlweb.event.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import java.sql.Array;
+import java.util.Collection;
+import java.util.List;
+
+/** 이벤트 트리 일괄 삭제 및 참가 정보 일괄 조회 (JPA 영속성 컨텍스트를 거치지 않는 set 기반 SQL) */
+@Repository
+@RequiredArgsConstructor
+public class EventBulkRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** 삭제된 참가 정보 (캐시 무효화 키) */
+    public record DeletedParticipant(Long eventId, Long userId) {
+    }
+
+    /** 참가 정보 행 처리기 (박싱 없이 ID 전달) */
+    @FunctionalInterface
+    public interface ParticipantRowHandler {
+        void accept(long eventId, long userId);
+    }
+
+    /** 전체 참가 정보를 (이벤트 ID, 사용자 ID) 순으로 한 행씩 전달 (참가자 명단 인덱스 적재용) */
+    public void forEachParticipant(ParticipantRowHandler handler) {
+        jdbcTemplate.query(
+                "SELECT event_id, user_id FROM event_participants ORDER BY event_id, user_id",
+                (RowCallbackHandler) rs -> handler.accept(rs.getLong(1), rs.getLong(2)));
+    }
+
+    /** 이벤트와 모든 하위 이벤트 ID를 클로저 테이블 조회 한 번으로 조회 (자기 자신 포함, 깊은 이벤트가 앞) */
+    public List<Long> findSubtreeIds(Long eventId) {
+        return jdbcTemplate.queryForList(
+                "SELECT descendant_id FROM event_closure " +
+                "WHERE ancestor_id = ? ORDER BY distance DESC, descendant_id",
+                Long.class, eventId);
+    }
+
+    /** 이벤트들의 참가자 일괄 삭제 후 삭제된 (이벤트 ID, 사용자 ID) 목록 반환 */
+    public List<DeletedParticipant> deleteParticipantsByEventIds(Collection<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return List.of();
+        }
+
+        return jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement(
+                    "DELETE FROM event_participants WHERE event_id = ANY(?) " +
+                    "RETURNING event_id, user_id");
+            Array eventIdArray = connection.createArrayOf("integer", eventIds.toArray());
+            statement.setArray(1, eventIdArray);
+            return statement;
+        }, (rs, rowNum) -> new DeletedParticipant(rs.getLong("event_id"), rs.getLong("user_id")));
+    }
+
+    /** 이벤트 일괄 삭제 후 삭제된 행 수 반환 (앙상블 등 하위 데이터는 FK cascade로 함께 삭제) */
+    public int deleteEventsByIds(Collection<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return 0;
+        }
+
+        return jdbcTemplate.update(connection -> {
+            var statement = connection.prepareStatement("DELETE FROM events WHERE id = ANY(?)");
+            Array eventIdArray = connection.createArrayOf("integer", eventIds.toArray());
+            statement.setArray(1, eventIdArray);
+            return statement;
+        });
+    }
+
+}
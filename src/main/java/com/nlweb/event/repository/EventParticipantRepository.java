@@ -1,24 +1,50 @@
 package com.nlweb.event.repository;
 
+import com.nlweb.event.dto.EventParticipantSnapshot;
 import com.nlweb.event.entity.EventParticipant;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface EventParticipantRepository extends JpaRepository<EventParticipant, Integer> {
 
+    /** 스냅샷 프로젝션 (참가 정보와 사용자/관리자 컬럼만 조회, 엔티티 생성 없음) */
+    String SNAPSHOT_SELECT = "SELECT new com.nlweb.event.dto.EventParticipantSnapshot(" +
+            "ep.event.id, ep.appliedAt, " +
+            "u.id, u.studentId, u.username, u.batch, u.session, u.phone, u.email, u.status, u.isVocalable, u.isAdmin, " +
+            "a.role, a.appointedBy, a.appointmentReason, a.createdAt, a.updatedAt, u.lastLogin, u.createdAt, u.version) " +
+            "FROM EventParticipant ep JOIN ep.user u LEFT JOIN u.admin a ";
+
     /** 이벤트 ID로 참가자 목록 조회 */
     List<EventParticipant> findByEventId(Long eventId);
 
     /** 사용자 ID로 참가자 목록 조회 */
     List<EventParticipant> findByUserId(Long userId);
 
+    /** 이벤트 ID로 참가자 스냅샷 목록 조회 (사용자/관리자 정보 포함) */
+    @Query(SNAPSHOT_SELECT + "WHERE ep.event.id = :eventId")
+    List<EventParticipantSnapshot> findSnapshotsByEventId(@Param("eventId") Long eventId);
+
+    /** 사용자 ID로 참가자 스냅샷 목록 조회 (사용자/관리자 정보 포함) */
+    @Query(SNAPSHOT_SELECT + "WHERE u.id = :userId")
+    List<EventParticipantSnapshot> findSnapshotsByUserId(@Param("userId") Long userId);
+
     /** 이벤트 ID와 사용자 ID로 참가자 조회 */
     Optional<EventParticipant> findByEventIdAndUserId(Long eventId, Long userId);
 
     /** 이벤트 ID와 사용자 ID로 참가자 존재 여부 확인 */
     boolean existsByEventIdAndUserId(Long eventId, Long userId);
 
+    /** 이벤트에 이미 참가한 사용자 ID 목록 조회 (일괄 신청 검증용) */
+    @Query("SELECT ep.user.id FROM EventParticipant ep WHERE ep.event.id = :eventId AND ep.user.id IN :userIds")
+    List<Long> findUserIdsByEventIdAndUserIdIn(@Param("eventId") Long eventId, @Param("userIds") Collection<Long> userIds);
+
+    /** 이벤트 ID로 참가자 수 조회 */
+    long countByEventId(Long eventId);
+
 }
@@ -1,18 +1,27 @@
 package com.nlweb.event.repository;
 
 import com.nlweb.common.enums.EventType;
+import com.nlweb.event.dto.EventSnapshot;
 import com.nlweb.event.entity.Event;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
-import java.time.LocalDateTime;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
 
 @Repository
 public interface EventRepository extends JpaRepository<Event, Long> {
 
+    /** 스냅샷 프로젝션 (스칼라 컬럼과 생성자 학번만 조회, 하위 이벤트 ID는 {@link #findChildLinks}로 별도 조회) */
+    String SNAPSHOT_SELECT = "SELECT new com.nlweb.event.dto.EventSnapshot(" +
+            "e.id, e.title, e.description, e.eventType, e.isActive, e.maxParticipants, e.currentParticipants, " +
+            "e.startDateTime, e.endDateTime, e.parentEvent.id, e.rootEvent.id, e.depth, cu.studentId, e.version) " +
+            "FROM Event e LEFT JOIN e.createdBy ca LEFT JOIN ca.user cu ";
+
     /** 제목으로 이벤트 조회 */
     Optional<Event> findByTitle(String title);
 
@@ -33,22 +42,39 @@ public interface EventRepository extends JpaRepository<Event, Long> {
            "WHERE ep.id = :id ORDER BY e.startDateTime")
     List<Event> findAllByEventParticipantId(Long id);
 
-    /** 다가오는 이벤트 조회 */
-    @Query("SELECT e FROM Event e " +
-            "WHERE DATE(e.startDateTime) > DATE(:datetime) " +
-            "AND e.isActive = true ORDER BY e.startDateTime")
-    List<Event> findUpcomingEvents(@Param("datetime") LocalDateTime datetime);
-
-    /** 현재 진행 중인 이벤트 조회 */
-    @Query("SELECT e FROM Event e " +
-            "WHERE DATE(e.startDateTime) <= DATE(:datetime) AND DATE(:datetime) <= DATE(e.endDateTime) " +
-            "AND e.isActive = true ORDER BY e.startDateTime")
-    List<Event> findOngoingEvents(@Param("datetime") LocalDateTime datetime);
-
-    /** 기간이 끝난 이벤트 조회 */
-    @Query("SELECT e FROM Event e " +
-            "WHERE DATE(e.endDateTime) < DATE(:datetime) " +
-            "AND e.isActive = true ORDER BY e.endDateTime DESC")
-    List<Event> findPastEvents(@Param("datetime") LocalDateTime datetime);
+    /** ID로 이벤트 스냅샷 조회 */
+    @Query(SNAPSHOT_SELECT + "WHERE e.id = :id")
+    Optional<EventSnapshot> findSnapshotById(@Param("id") Long id);
+
+    /** 모든 이벤트 스냅샷 조회 (ID 순) */
+    @Query(SNAPSHOT_SELECT + "ORDER BY e.id")
+    List<EventSnapshot> findAllSnapshots();
+
+    /** 활성화된 이벤트 스냅샷을 시작 날짜 기준 오름차순으로 조회 */
+    @Query(SNAPSHOT_SELECT + "WHERE e.isActive = true ORDER BY e.startDateTime, e.id")
+    List<EventSnapshot> findActiveSnapshots();
+
+    /** 이벤트 타입별 이벤트 스냅샷을 시작 날짜 기준 오름차순으로 조회 */
+    @Query(SNAPSHOT_SELECT + "WHERE e.eventType = :eventType ORDER BY e.startDateTime, e.id")
+    List<EventSnapshot> findSnapshotsByEventType(@Param("eventType") EventType eventType);
+
+    /** 이벤트와 직계 하위 이벤트 스냅샷을 한 번에 조회 (상세 집계용) */
+    @Query(SNAPSHOT_SELECT + "WHERE e.id = :id OR e.parentEvent.id = :id")
+    List<EventSnapshot> findSnapshotsWithChildrenById(@Param("id") Long id);
+
+    /** 상위 이벤트 ID별 하위 이벤트 ID 조회 ([상위 이벤트 ID, 하위 이벤트 ID], 하위 이벤트 ID 순) */
+    @Query("SELECT e.parentEvent.id, e.id FROM Event e WHERE e.parentEvent.id IN :parentIds ORDER BY e.id")
+    List<Object[]> findChildLinks(@Param("parentIds") Collection<Long> parentIds);
+
+    /** 최상위 이벤트 ID 조회 (최상위 이벤트면 자기 자신) */
+    @Query(value = "SELECT CAST(c.ancestor_id AS bigint) FROM event_closure c " +
+            "WHERE c.descendant_id = :id ORDER BY c.distance DESC LIMIT 1", nativeQuery = true)
+    Optional<Long> findEffectiveRootId(@Param("id") Long id);
+
+    /** 확정된 참가자 수 반영 (버전 증가 없는 벌크 업데이트) */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Event e SET e.currentParticipants = :count WHERE e.id = :id")
+    int updateCurrentParticipants(@Param("id") Long id, @Param("count") int count);
 
 }
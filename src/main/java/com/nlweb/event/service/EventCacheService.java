@@ -1,17 +1,30 @@
 package com.nlweb.event.service;
 
+import com.nlweb.common.cache.CacheEvictions;
 import com.nlweb.common.enums.EventType;
+import com.nlweb.event.dto.EventDetailSnapshot;
+import com.nlweb.event.dto.EventSnapshot;
+import com.nlweb.event.repository.EventBulkRepository;
+import com.nlweb.event.repository.EventParticipantRepository;
 import com.nlweb.event.repository.EventRepository;
 import com.nlweb.event.entity.Event;
 import lombok.*;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.interceptor.SimpleKey;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.function.Predicate;
 
 @Slf4j
 @Service
@@ -20,76 +33,215 @@ import java.time.LocalDateTime;
 public class EventCacheService {
 
     private final EventRepository eventRepository;
+    private final EventParticipantRepository eventParticipantRepository;
+    private final EventBulkRepository eventBulkRepository;
+    private final EventTimelineIndex eventTimelineIndex;
+    private final CacheManager cacheManager;
+    private final CacheEvictions cacheEvictions;
 
     /** 이벤트 ID로 이벤트 조회 */
-    @Cacheable(value = "event", key = "#id", unless = "#result == null")
-    public Optional<Event> getEventById(Long id) {
-        return eventRepository.findById(id);
+    @Cacheable(value = "event", key = "#id")
+    public Optional<EventSnapshot> getEventById(Long id) {
+        return eventRepository.findSnapshotById(id)
+                .map(event -> withChildEventIds(List.of(event)).get(0));
     }
 
-    /** 모든 이벤트 조회 */
-    @Cacheable(value = "events")
-    public List<Event> getAllEvents() {
-        return eventRepository.findAll();
-    }
+    /** 이벤트 상세 집계 조회 (이벤트+하위 이벤트, 하위 이벤트 ID, 최상위 이벤트, 참가자 각 1회 조회, 한 단위로 캐시) */
+    @Cacheable(value = "eventDetail", key = "#id")
+    public EventDetailSnapshot getEventDetail(Long id) {
+        List<EventSnapshot> events = withChildEventIds(eventRepository.findSnapshotsWithChildrenById(id));
+        EventSnapshot event = events.stream().filter(e -> e.id().equals(id)).findFirst().orElse(null);
+        if (event == null) {
+            return null;
+        }
 
-    /** 모든 활성화 이벤트 조회 */
-    @Cacheable(value = "events:active")
-    public List<Event> getAllActiveEvents() {
-        return eventRepository.findByIsActiveTrueOrderByStartDateTimeAsc();
-    }
+        List<EventSnapshot> childEvents = events.stream().filter(e -> !e.id().equals(id)).toList();
+        Long rootEventId = event.parentEventId() == null ? id
+                : event.rootEventId() != null ? event.rootEventId()
+                : eventRepository.findEffectiveRootId(id).orElse(id);
+
+        EventSnapshot rootEvent = rootEventId.equals(id) ? event : eventRepository.findSnapshotById(rootEventId).orElse(event);
 
-    /** 모든 다가오는 이벤트 조회 */
-    @Cacheable(value = "events:upcoming")
-    public List<Event> getAllUpcomingEvents(LocalDateTime now) {
-        return eventRepository.findUpcomingEvents(now);
+        return EventDetailSnapshot.of(event, rootEvent, childEvents, eventParticipantRepository.findSnapshotsByEventId(rootEvent.id()));
     }
 
-    /** 모든 진행 중인 이벤트 조회 */
-    @Cacheable(value = "events:ongoing")
-    public List<Event> getAllOngoingEvents(LocalDateTime now) {
-        return eventRepository.findOngoingEvents(now);
+    /** 모든 이벤트 조회 */
+    @Cacheable(value = "events")
+    public List<EventSnapshot> getAllEvents() {
+        return withChildEventIds(eventRepository.findAllSnapshots());
     }
 
-    /** 모든 기간이 끝난 이벤트 조회 */
-    @Cacheable(value = "events:past")
-    public List<Event> getAllPastEvents(LocalDateTime now) {
-        return eventRepository.findPastEvents(now);
+    /** 모든 활성화 이벤트 조회 */
+    @Cacheable(value = "events:active")
+    public List<EventSnapshot> getAllActiveEvents() {
+        return withChildEventIds(eventRepository.findActiveSnapshots());
     }
 
     /** 이벤트 타입별 모든 활성화 이벤트 조회 */
-    @Cacheable(value = "event", key = "#eventType")
-    public List<Event> getAllEventsByEventType(EventType eventType) {
-        return eventRepository.findByEventTypeOrderByStartDateTimeAsc(eventType);
+    @Cacheable(value = "events:type", key = "#eventType")
+    public List<EventSnapshot> getAllEventsByEventType(EventType eventType) {
+        return withChildEventIds(eventRepository.findSnapshotsByEventType(eventType));
     }
 
     /** 이벤트 ID로 이벤트 존재 여부 확인 */
-    @Cacheable(value = "event", key = "#id")
+    @Cacheable(value = "event:exists", key = "#id")
     public boolean isEventExistsById(Long id) {
         return eventRepository.existsById(id);
     }
 
-    /** 모든 이벤트 캐시 삭제 */
-    @CacheEvict(value = {
-            "event", "events", "events:active", "events:upcoming", "events:votable", "events:ongoing", "events:past"
-    }, allEntries = true)
-    public void evictAllEventCaches() {
-        log.debug("모든 이벤트 캐시 삭제");
+    /** 이벤트 단건 캐시 삭제 */
+    @CacheEvict(value = "event", key = "#id")
+    public void evictEventCache(Long id) {
+        log.debug("이벤트 캐시 삭제: id = {}", id);
     }
 
-    /** 이벤트 저장 및 캐시 무효화 */
+    /** 이벤트 저장 및 캐시 갱신 (커밋 후 단건 캐시와 영향받는 목록 캐시 키만 무효화) */
     @Transactional
     public Event saveEvent(Event event) {
-        Event savedEvent = eventRepository.save(event);
-        evictAllEventCaches(); // 캐시 무효화
+        Event savedEvent = eventRepository.saveAndFlush(event);
+        refreshEvent(savedEvent);
         return savedEvent;
     }
 
-    /** 이벤트 삭제 및 캐시 무효화 */
-    @Transactional
-    public void deleteEvent(Long id) {
-        eventRepository.deleteById(id);
-        evictAllEventCaches(); // 캐시 무효화
+    /** 일괄 삭제된 이벤트들을 커밋 후 캐시에서 한 번에 제거 (목록 캐시는 키마다 한 번만 확인) */
+    public void removeEvents(Collection<Long> ids) {
+        Set<Long> removedIds = Set.copyOf(ids);
+        if (!removedIds.isEmpty()) {
+            cacheEvictions.afterCommit(() -> applyEventRemovals(removedIds));
+        }
+    }
+
+    /** 저장 없이 변경된 이벤트를 캐시에 반영 (하위 이벤트 추가/삭제로 상위 이벤트가 바뀐 경우 등) */
+    public void refreshEvent(Event event) {
+        EventSnapshot snapshot = EventSnapshot.from(event);
+        cacheEvictions.afterCommit(() -> applyEventChange(snapshot.id(), snapshot));
+    }
+
+    // ========================== Private Methods ==========================
+
+    /**
+     * 이벤트 하나의 변경을 캐시에 반영
+     * <p>
+     * 단건 캐시는 무효화하고, 캐시된 목록은 이 이벤트로 내용이 달라지는 키만 무효화한다.
+     * 영향이 없거나 캐시되지 않은 목록은 건드리지 않는다. (무효화된 목록은 다음 조회 시 DB에서 새로 적재)
+     * 다가오는/진행 중/종료 이벤트는 타임라인 인덱스에 반영한다.
+     */
+    private void applyEventChange(Long eventId, EventSnapshot snapshot) {
+        if (snapshot != null) {
+            eventTimelineIndex.upsert(snapshot);
+        } else {
+            eventTimelineIndex.remove(eventId);
+        }
+
+        try {
+            cacheEvictions.evict("event", eventId);
+            cacheEvictions.evict("event:exists", eventId);
+            evictEventDetails(eventId, snapshot);
+
+            evictAffectedLists(Set.of(eventId), snapshot);
+        } catch (Exception e) {
+            log.error("이벤트 {} 캐시 무효화 실패, 전체 캐시를 삭제합니다: {}", eventId, e.getMessage());
+            clearAll();
+        }
+    }
+
+    /** 여러 이벤트 삭제를 캐시에 반영 (단건 캐시 무효화, 영향받는 목록 캐시 키마다 한 번 무효화) */
+    private void applyEventRemovals(Set<Long> eventIds) {
+        eventIds.forEach(eventTimelineIndex::remove);
+
+        try {
+            for (Long eventId : eventIds) {
+                cacheEvictions.evict("event", eventId);
+                cacheEvictions.evict("event:exists", eventId);
+                cacheEvictions.evict("eventDetail", eventId);
+            }
+            evictAffectedLists(eventIds, null);
+        } catch (Exception e) {
+            log.error("이벤트 {}건 캐시 무효화 실패, 전체 캐시를 삭제합니다: {}", eventIds.size(), e.getMessage());
+            clearAll();
+        }
+    }
+
+    /** 상세 집계 캐시 무효화 (하위 이벤트 상세도 최상위 이벤트 정보를 담으므로 하위 트리 전체, 상위 이벤트는 하위 이벤트 목록 때문에 함께) */
+    private void evictEventDetails(Long eventId, EventSnapshot snapshot) {
+        if (snapshot == null) {
+            cacheEvictions.evict("eventDetail", eventId);
+            return;
+        }
+
+        for (Long subtreeEventId : eventBulkRepository.findSubtreeIds(eventId)) {
+            cacheEvictions.evict("eventDetail", subtreeEventId);
+        }
+        if (snapshot.parentEventId() != null) {
+            cacheEvictions.evict("eventDetail", snapshot.parentEventId());
+        }
+    }
+
+    private void evictAffectedLists(Set<Long> eventIds, EventSnapshot snapshot) {
+        evictListIfAffected("events", SimpleKey.EMPTY, eventIds, snapshot, event -> true);
+        evictListIfAffected("events:active", SimpleKey.EMPTY, eventIds, snapshot, event -> Boolean.TRUE.equals(event.isActive()));
+        for (EventType eventType : EventType.values()) {
+            evictListIfAffected("events:type", eventType, eventIds, snapshot, event -> event.eventType() == eventType);
+        }
+    }
+
+    /**
+     * 캐시된 목록이 변경 이벤트의 영향을 받으면 해당 키만 무효화
+     * <p>
+     * 목록을 읽어 수정 후 다시 쓰면 동시 변경끼리 서로 덮어쓸 수 있으므로 공유 목록은 고쳐 쓰지 않는다.
+     * 변경된 이벤트가 목록에 없고 들어갈 필요도 없거나, 이미 같은 값으로 들어 있으면 그대로 둔다.
+     */
+    private void evictListIfAffected(String cacheName, Object key, Set<Long> eventIds, EventSnapshot snapshot,
+                                     Predicate<EventSnapshot> belongs) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+
+        List<?> cached = cache.get(key, List.class);
+        if (cached == null) {
+            return;
+        }
+
+        boolean stale = false;
+        boolean current = false;
+        for (Object element : cached) {
+            EventSnapshot event = (EventSnapshot) element;
+            if (eventIds.contains(event.id())) {
+                if (event.equals(snapshot)) {
+                    current = true;
+                } else {
+                    stale = true;
+                }
+            }
+        }
+
+        boolean shouldContain = snapshot != null && belongs.test(snapshot);
+        if (stale || shouldContain != current) {
+            cache.evict(key);
+        }
+    }
+
+    private void clearAll() {
+        for (String cacheName : List.of("event", "event:exists", "eventDetail", "events", "events:active", "events:type", "events:votable")) {
+            cacheEvictions.clear(cacheName);
+        }
+    }
+
+    /** 프로젝션으로 읽은 스냅샷에 하위 이벤트 ID를 한 번의 조회로 채움 */
+    private List<EventSnapshot> withChildEventIds(List<EventSnapshot> events) {
+        if (events.isEmpty()) {
+            return events;
+        }
+
+        Map<Long, List<Long>> childIds = new HashMap<>();
+        for (Object[] link : eventRepository.findChildLinks(events.stream().map(EventSnapshot::id).toList())) {
+            childIds.computeIfAbsent((Long) link[0], id -> new ArrayList<>()).add((Long) link[1]);
+        }
+
+        return events.stream()
+                .map(event -> event.withChildEventIds(childIds.getOrDefault(event.id(), List.of())))
+                .toList();
     }
 
 }
@@ -1,15 +1,21 @@
 package com.nlweb.event.service;
 
+import com.nlweb.common.cache.CacheEvictions;
+import com.nlweb.event.dto.EventParticipantSnapshot;
+import com.nlweb.event.repository.EventBulkRepository;
 import com.nlweb.event.repository.EventParticipantRepository;
 import com.nlweb.event.entity.EventParticipant;
 import lombok.*;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -18,76 +24,189 @@ import java.util.List;
 public class EventParticipantCacheService {
 
     private final EventParticipantRepository eventParticipantRepository;
+    private final EventBulkRepository eventBulkRepository;
+    private final EventRosterIndex eventRosterIndex;
+    private final CacheEvictions cacheEvictions;
 
     /** 이벤트 ID로 참가자 목록 조회 */
     @Cacheable(value = "eventParticipantsByEvent", key = "#eventId")
-    public List<EventParticipant> getParticipantsByEventId(Long eventId) {
+    public List<EventParticipantSnapshot> getParticipantsByEventId(Long eventId) {
         log.debug("이벤트 ID {}에 대한 참가자 목록을 캐시에서 조회합니다.", eventId);
-        return eventParticipantRepository.findByEventId(eventId);
+        return eventParticipantRepository.findSnapshotsByEventId(eventId);
     }
 
     /** 사용자 ID로 참가자 목록 조회 */
     @Cacheable(value = "eventParticipantsByUser", key = "#userId")
-    public List<EventParticipant> getParticipantsByUserId(Long userId) {
+    public List<EventParticipantSnapshot> getParticipantsByUserId(Long userId) {
         log.debug("사용자 ID {}에 대한 참가자 목록을 캐시에서 조회합니다.", userId);
-        return eventParticipantRepository.findByUserId(userId);
+        return eventParticipantRepository.findSnapshotsByUserId(userId);
     }
 
     /** 이벤트 ID와 사용자 ID로 참가자 조회 */
-    @Cacheable(value = "eventParticipant", key = "#eventId + ':' + #userId", unless = "#result == null")
-    public EventParticipant getParticipantByEventIdAndUserId(Long eventId, Long userId) {
+    @Cacheable(value = "eventParticipant", key = "#eventId + ':' + #userId")
+    public EventParticipantSnapshot getParticipantByEventIdAndUserId(Long eventId, Long userId) {
         log.debug("이벤트 ID {}와 사용자 ID {}에 대한 참가자를 캐시에서 조회합니다.", eventId, userId);
-        return eventParticipantRepository.findByEventIdAndUserId(eventId, userId).orElse(null);
+        return eventParticipantRepository.findByEventIdAndUserId(eventId, userId)
+                .map(EventParticipantSnapshot::from)
+                .orElse(null);
     }
 
-    /** 이벤트 ID와 사용자 ID로 참가자 존재 여부 확인 */
-    @Cacheable(value = "eventParticipantExists", key = "#eventId + ':' + #userId")
+    /** 이벤트 ID와 사용자 ID로 참가자 존재 여부 확인 (참가자 명단 인덱스) */
     public boolean existsByEventIdAndUserId(Long eventId, Long userId) {
-        log.debug("이벤트 ID {}와 사용자 ID {}에 대한 참가자 존재 여부를 캐시에서 확인합니다.", eventId, userId);
-        return eventParticipantRepository.existsByEventIdAndUserId(eventId, userId);
+        return eventRosterIndex.contains(eventId, userId);
     }
 
-    /** 이벤트 참가자 저장 및 캐시 무효화 */
+    /** 이벤트 ID와 사용자 ID로 참가자 존재 여부 확인 (명단 인덱스 적중은 바로 반환, 미스는 명단 반영 지연일 수 있어 DB로 확인) */
+    public boolean existsByEventIdAndUserIdVerified(Long eventId, Long userId) {
+        return eventRosterIndex.contains(eventId, userId)
+                || eventParticipantRepository.existsByEventIdAndUserId(eventId, userId);
+    }
+
+    /** 이벤트 참가자 수 (참가자 명단 인덱스) */
+    public int countByEventId(Long eventId) {
+        return eventRosterIndex.count(eventId);
+    }
+
+    /** 사용자가 참가한 이벤트 ID 목록 (참가자 명단 인덱스, 오름차순) */
+    public List<Long> getEventIdsByUserId(Long userId) {
+        List<Long> eventIds = new ArrayList<>(eventRosterIndex.countEventsOf(userId));
+        eventRosterIndex.forEachEventOf(userId, eventIds::add);
+        return eventIds;
+    }
+
+    /** 이벤트 참가자 저장 (캐시 무효화와 명단 인덱스 반영은 커밋 후) */
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = "eventParticipantsByEvent", key = "#participant.event.id"),
-            @CacheEvict(value = "eventParticipantsByUser", key = "#participant.user.id"),
-            @CacheEvict(value = "eventParticipant", key = "#participant.event.id + ':' + #participant.user.id"),
-            @CacheEvict(value = "eventParticipantExists", key = "#participant.event.id + ':' + #participant.user.id")
-    })
     public EventParticipant saveEventParticipant(EventParticipant participant) {
-        log.debug("이벤트 참가자 ID {}를 저장하고 관련 캐시를 무효화합니다.", participant.getId());
-        return eventParticipantRepository.save(participant);
+        EventParticipant savedParticipant = eventParticipantRepository.save(participant);
+        log.debug("이벤트 ID {}에 사용자 ID {} 참가 정보를 저장합니다.", savedParticipant.getEvent().getId(), savedParticipant.getUser().getId());
+        applyAfterCommit(List.of(membershipOf(savedParticipant)), true);
+        return savedParticipant;
     }
 
-    /** 이벤트 참가자 삭제 및 캐시 무효화 */
+    /** 이벤트 참가자 일괄 저장 (캐시 무효화와 명단 인덱스 반영은 커밋 후) */
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = "eventParticipantsByEvent", key = "#participant.event.id"),
-            @CacheEvict(value = "eventParticipantsByUser", key = "#participant.user.id"),
-            @CacheEvict(value = "eventParticipant", key = "#participant.event.id + ':' + #participant.user.id"),
-            @CacheEvict(value = "eventParticipantExists", key = "#participant.event.id + ':' + #participant.user.id")
-    })
-    public void deleteEventParticipant(EventParticipant participant) {
-        log.debug("이벤트 참가자 ID {}를 삭제하고 관련 캐시를 무효화합니다.", participant.getId());
-        eventParticipantRepository.delete(participant);
-    }
-
-    /** 모든 이벤트 참가자 캐시 삭제 */
+    public List<EventParticipant> saveEventParticipants(List<EventParticipant> participants) {
+        if (participants.isEmpty()) {
+            return participants;
+        }
+
+        List<EventParticipant> savedParticipants = eventParticipantRepository.saveAll(participants);
+        applyAfterCommit(savedParticipants.stream().map(this::membershipOf).toList(), true);
+
+        log.debug("이벤트 참가자 {}명을 일괄 저장합니다.", savedParticipants.size());
+        return savedParticipants;
+    }
+
+    /** 이벤트 참가자 삭제 (캐시 무효화와 명단 인덱스 반영은 커밋 후) */
+    @Transactional
+    public void deleteEventParticipant(Long eventId, Long userId) {
+        log.debug("이벤트 ID {}의 사용자 ID {} 참가 정보를 삭제합니다.", eventId, userId);
+        eventParticipantRepository.findByEventIdAndUserId(eventId, userId)
+                .ifPresent(eventParticipantRepository::delete);
+        applyAfterCommit(List.of(new EventRosterIndex.Membership(eventId, userId)), false);
+    }
+
+    /** 영구 삭제된 사용자의 참가 정보를 커밋 후 캐시와 명단 인덱스에서 제거 (DB cascade로 지워진 참가 행은 명단에 반영되지 않음) */
+    public void evictDeletedUser(Long userId) {
+        cacheEvictions.afterCommit(() -> {
+            for (Long eventId : getEventIdsByUserId(userId)) {
+                cacheEvictions.evict("eventParticipantsByEvent", eventId);
+                cacheEvictions.evict("eventParticipant", eventId + ":" + userId);
+                evictEventDetails(eventId);
+            }
+            cacheEvictions.evict("eventParticipantsByUser", userId);
+            eventRosterIndex.removeUser(userId);
+        });
+    }
+
+    /** 모든 이벤트 참가자 캐시 삭제 (명단 인덱스는 DB에서 재적재) */
     @CacheEvict(value = {
-            "eventParticipantsByEvent", "eventParticipantsByUser", "eventParticipant", "eventParticipantExists"
+            "eventParticipantsByEvent", "eventParticipantsByUser", "eventParticipant", "eventDetail"
     }, allEntries = true)
     public void evictAllEventParticipantCaches() {
+        eventRosterIndex.reload();
         log.info("모든 이벤트 참가자 캐시가 삭제되었습니다.");
     }
 
-    /** 이벤트 ID로 모든 참가자 삭제 및 캐시 무효화 */
-    @Transactional
-    public void deleteParticipantsByEventId(Long eventId) {
-        List<EventParticipant> participants = eventParticipantRepository.findByEventId(eventId);
-        eventParticipantRepository.deleteAll(participants);
-        evictAllEventParticipantCaches();
-        log.info("이벤트 ID {}에 대한 모든 참가자가 삭제되었습니다.", eventId);
+    /** 일괄 삭제된 참가 정보의 캐시만 커밋 후 무효화 (이벤트별/사용자별 목록과 단건 키) */
+    public void evictDeletedParticipants(Collection<Long> eventIds, Collection<EventBulkRepository.DeletedParticipant> participants) {
+        List<Long> deletedEventIds = List.copyOf(eventIds);
+        List<EventBulkRepository.DeletedParticipant> deletedParticipants = List.copyOf(participants);
+        cacheEvictions.afterCommit(() -> evictDeleted(deletedEventIds, deletedParticipants));
+    }
+
+    private void evictDeleted(List<Long> eventIds, List<EventBulkRepository.DeletedParticipant> participants) {
+        for (Long eventId : eventIds) {
+            cacheEvictions.evict("eventParticipantsByEvent", eventId);
+        }
+
+        Set<Long> userIds = new HashSet<>();
+        List<EventRosterIndex.Membership> memberships = new ArrayList<>(participants.size());
+        for (EventBulkRepository.DeletedParticipant participant : participants) {
+            userIds.add(participant.userId());
+            cacheEvictions.evict("eventParticipant", participant.eventId() + ":" + participant.userId());
+            memberships.add(new EventRosterIndex.Membership(participant.eventId(), participant.userId()));
+        }
+        for (Long userId : userIds) {
+            cacheEvictions.evict("eventParticipantsByUser", userId);
+        }
+        eventRosterIndex.remove(memberships);
+
+        log.debug("삭제된 이벤트 {}건, 참가 정보 {}건의 캐시를 무효화합니다.", eventIds.size(), participants.size());
+    }
+
+    /** 사용자 프로필/상태/권한 변경 시, 사용자가 참가한 이벤트 트리의 상세 집계 캐시만 커밋 후 무효화 (명단 인덱스 기준) */
+    public void evictEventDetailsOfUsers(Collection<Long> userIds) {
+        List<Long> changedUserIds = List.copyOf(userIds);
+        cacheEvictions.afterCommit(() -> {
+            Set<Long> rootEventIds = new HashSet<>();
+            for (Long userId : changedUserIds) {
+                eventRosterIndex.forEachEventOf(userId, rootEventIds::add);
+            }
+            rootEventIds.forEach(this::evictEventDetails);
+            log.debug("사용자 {}명의 참가 이벤트 {}건 상세 캐시를 무효화합니다.", changedUserIds.size(), rootEventIds.size());
+        });
+    }
+
+    /**
+     * 참가 변경을 커밋 후 캐시와 명단 인덱스에 반영
+     * <p>
+     * 커밋 전에 지우면 그 사이 조회가 이전 상태를 다시 캐시하므로(없음 결과 포함) 모든 무효화를 커밋 후에 수행한다.
+     */
+    private void applyAfterCommit(List<EventRosterIndex.Membership> memberships, boolean added) {
+        cacheEvictions.afterCommit(() -> {
+            Set<Long> eventIds = new HashSet<>();
+            Set<Long> userIds = new HashSet<>();
+            for (EventRosterIndex.Membership membership : memberships) {
+                eventIds.add(membership.eventId());
+                userIds.add(membership.userId());
+                cacheEvictions.evict("eventParticipant", membership.eventId() + ":" + membership.userId());
+            }
+            for (Long eventId : eventIds) {
+                cacheEvictions.evict("eventParticipantsByEvent", eventId);
+                evictEventDetails(eventId);
+            }
+            for (Long userId : userIds) {
+                cacheEvictions.evict("eventParticipantsByUser", userId);
+            }
+
+            if (added) {
+                eventRosterIndex.add(memberships);
+            } else {
+                eventRosterIndex.remove(memberships);
+            }
+        });
+    }
+
+    /** 참가자가 등록된 최상위 이벤트 트리의 상세 집계 캐시 무효화 (하위 이벤트 상세도 최상위 참가자 목록을 포함) */
+    private void evictEventDetails(Long rootEventId) {
+        for (Long eventId : eventBulkRepository.findSubtreeIds(rootEventId)) {
+            cacheEvictions.evict("eventDetail", eventId);
+        }
+    }
+
+    private EventRosterIndex.Membership membershipOf(EventParticipant participant) {
+        return new EventRosterIndex.Membership(participant.getEvent().getId(), participant.getUser().getId());
     }
 
 }
@@ -4,16 +4,20 @@ import com.nlweb.common.exception.event.EventNotFoundException;
 import com.nlweb.common.exception.user.UserNotFoundException;
 import com.nlweb.event.dto.*;
 import com.nlweb.event.entity.*;
+import com.nlweb.event.repository.EventParticipantRepository;
+import com.nlweb.event.repository.EventRepository;
+import com.nlweb.user.dto.UserSnapshot;
 import com.nlweb.user.entity.User;
+import com.nlweb.user.repository.UserRepository;
 import com.nlweb.user.service.UserCacheService;
 import com.nlweb.admin.service.AdminCacheService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import java.util.List;
+import java.util.*;
 import java.time.LocalDateTime;
-import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -24,8 +28,12 @@ public class EventParticipantService {
 
     private final EventCacheService eventCacheService;
     private final EventParticipantCacheService eventParticipantCacheService;
+    private final EventSeatReservationService eventSeatReservationService;
     private final AdminCacheService adminCacheService;
     private final UserCacheService userCacheService;
+    private final EventParticipantRepository eventParticipantRepository;
+    private final EventRepository eventRepository;
+    private final UserRepository userRepository;
 
     // ================ Create ================
 
@@ -33,12 +41,12 @@ public class EventParticipantService {
     @Transactional
     public CreateEventParticipantResponse createEventParticipant(String createdBy, Long eventId, CreateEventParticipantRequest request, Boolean includePrivateInfo) {
 
-        Event event = eventCacheService.getEventById(eventId)
+        EventSnapshot event = eventCacheService.getEventById(eventId)
                 .orElseThrow(() -> new EventNotFoundException("이벤트를 찾을 수 없습니다. ID: " + eventId));
 
-        Event rootEvent = event.getRootEvent() != null ? event.getRootEvent() : event;
+        EventSnapshot rootEvent = getRootEvent(event);
 
-        User user = userCacheService.getUserByStudentId(request.getStudentId())
+        UserSnapshot user = userCacheService.getUserByStudentId(request.getStudentId())
                 .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다. 학번: " + createdBy));
 
         if (!Objects.equals(request.getStudentId(), createdBy)) {
@@ -48,28 +56,87 @@ public class EventParticipantService {
             }
         }
 
-        if (eventParticipantCacheService.existsByEventIdAndUserId(rootEvent.getId(), user.getId())) {
-            log.warn("사용자 {}는 이미 이벤트 {}에 참가했습니다.", createdBy, event.getId());
+        if (eventParticipantCacheService.existsByEventIdAndUserId(rootEvent.id(), user.id())) {
+            log.warn("사용자 {}는 이미 이벤트 {}에 참가했습니다.", createdBy, event.id());
             throw new IllegalStateException("이미 이벤트에 참가한 사용자입니다.");
         }
 
-        if (rootEvent.getMaxParticipants() != null && rootEvent.getCurrentParticipants() >= rootEvent.getMaxParticipants()) {
-            log.warn("이벤트 {}의 참가자 수가 최대치를 초과했습니다.", event.getId());
+        if (!eventSeatReservationService.tryReserve(rootEvent.id(), rootEvent.maxParticipants())) {
+            log.warn("이벤트 {}의 참가자 수가 최대치를 초과했습니다.", event.id());
             throw new IllegalStateException("이벤트의 최대 참가자 수를 초과했습니다.");
         }
 
-        rootEvent.incrementParticipants();
-        eventCacheService.saveEvent(rootEvent);
-
         EventParticipant participant = EventParticipant.builder()
-                .event(rootEvent)
-                .user(user)
+                .event(eventRepository.getReferenceById(rootEvent.id()))
+                .user(userRepository.getReferenceById(user.id()))
                 .appliedAt(LocalDateTime.now())
                 .build();
 
-        EventParticipant savedParticipant = eventParticipantCacheService.saveEventParticipant(participant);
+        eventParticipantCacheService.saveEventParticipant(participant);
+
+        return CreateEventParticipantResponse.fromParticipantInfo(
+                EventParticipantInfo.fromSnapshot(rootEvent.id(), user, includePrivateInfo));
+    }
+
+    /** 이벤트 참가자 일괄 생성 (대기열 소비자 전용, 학번별 결과 반환) */
+    @Transactional
+    public CreateEventParticipantBatchResult createEventParticipantBatch(Long eventId, List<String> studentIds) {
+
+        CreateEventParticipantBatchResult result = new CreateEventParticipantBatchResult();
+
+        EventSnapshot event = eventCacheService.getEventById(eventId)
+                .orElseThrow(() -> new EventNotFoundException("이벤트를 찾을 수 없습니다. ID: " + eventId));
+
+        EventSnapshot rootEvent = getRootEvent(event);
+        Event rootEventReference = eventRepository.getReferenceById(rootEvent.id());
+
+        Map<String, User> users = userRepository.findAllByStudentIdIn(studentIds).stream()
+                .collect(Collectors.toMap(User::getStudentId, Function.identity()));
+
+        Set<Long> joinedUserIds = users.isEmpty() ? new HashSet<>() : new HashSet<>(
+                eventParticipantRepository.findUserIdsByEventIdAndUserIdIn(rootEvent.id(),
+                        users.values().stream().map(User::getId).toList()));
+
+        List<EventParticipant> participants = new ArrayList<>();
+
+        for (String studentId : studentIds) {
+            User user = users.get(studentId);
+
+            if (user == null) {
+                result.reject(studentId, "사용자를 찾을 수 없습니다. 학번: " + studentId);
+                continue;
+            }
+
+            if (!user.isActive()) {
+                result.reject(studentId, "활성 사용자만 이벤트에 참가할 수 있습니다.");
+                continue;
+            }
+
+            if (!joinedUserIds.add(user.getId())) {
+                result.reject(studentId, "이미 이벤트에 참가한 사용자입니다.");
+                continue;
+            }
 
-        return CreateEventParticipantResponse.fromEntity(savedParticipant, includePrivateInfo);
+            if (!eventSeatReservationService.tryReserve(rootEvent.id(), rootEvent.maxParticipants())) {
+                result.reject(studentId, "이벤트의 최대 참가자 수를 초과했습니다.");
+                continue;
+            }
+
+            participants.add(EventParticipant.builder()
+                    .event(rootEventReference)
+                    .user(user)
+                    .appliedAt(LocalDateTime.now())
+                    .build());
+        }
+
+        eventParticipantCacheService.saveEventParticipants(participants)
+                .forEach(participant -> result.accept(participant.getUser().getStudentId(),
+                        EventParticipantInfo.fromSnapshot(rootEvent.id(), UserSnapshot.from(participant.getUser()), true)));
+
+        log.info("이벤트 참가자 일괄 생성: 이벤트ID={}, 요청={}, 성공={}, 실패={}",
+                eventId, studentIds.size(), result.getAccepted().size(), result.getRejected().size());
+
+        return result;
     }
 
     // ================= Read =================
@@ -78,7 +145,7 @@ public class EventParticipantService {
     @Transactional
     public List<EventParticipantInfo> getAllParticipantsByEventId(Long eventId, Boolean includePrivateInfo) {
         return eventParticipantCacheService.getParticipantsByEventId(eventId).stream()
-                .map(participant -> EventParticipantInfo.fromEntity(participant, includePrivateInfo))
+                .map(participant -> EventParticipantInfo.fromSnapshot(participant, includePrivateInfo))
                 .collect(Collectors.toList());
     }
 
@@ -86,7 +153,7 @@ public class EventParticipantService {
     @Transactional
     public List<EventParticipantInfo> getAllParticipantsByUserId(Long userId, Boolean includePrivateInfo) {
         return eventParticipantCacheService.getParticipantsByUserId(userId).stream()
-                .map(participant -> EventParticipantInfo.fromEntity(participant, includePrivateInfo))
+                .map(participant -> EventParticipantInfo.fromSnapshot(participant, includePrivateInfo))
                 .collect(Collectors.toList());
     }
 
@@ -96,12 +163,12 @@ public class EventParticipantService {
     @Transactional
     public void deleteEventParticipant(Long eventId, String studentId, String deletedBy) {
 
-        Event event = eventCacheService.getEventById(eventId)
+        EventSnapshot event = eventCacheService.getEventById(eventId)
                 .orElseThrow(() -> new EventNotFoundException("이벤트를 찾을 수 없습니다. ID: " + eventId));
 
-        Event rootEvent = event.getRootEvent() != null ? event.getRootEvent() : event;
+        Long rootEventId = resolveRootEventId(event);
 
-        User user = userCacheService.getUserByStudentId(studentId)
+        UserSnapshot user = userCacheService.getUserByStudentId(studentId)
                 .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다. 학번: " + studentId));
 
         if (!Objects.equals(studentId, deletedBy)) {
@@ -111,18 +178,38 @@ public class EventParticipantService {
             }
         }
 
-        if (!eventParticipantCacheService.existsByEventIdAndUserId(rootEvent.getId(), user.getId())) {
-            log.warn("사용자 {}는 이벤트 {}에 참가하지 않았습니다.", studentId, event.getId());
+        if (!eventParticipantCacheService.existsByEventIdAndUserIdVerified(rootEventId, user.id())) {
+            log.warn("사용자 {}는 이벤트 {}에 참가하지 않았습니다.", studentId, event.id());
             throw new IllegalStateException("이벤트에 참가하지 않은 사용자입니다.");
         }
 
-        EventParticipant participant = eventParticipantCacheService.getParticipantByEventIdAndUserId(event.getId(), user.getId());
-
-        rootEvent.decrementParticipants();
-        eventCacheService.saveEvent(rootEvent);
+        eventSeatReservationService.release(rootEventId);
 
-        eventParticipantCacheService.deleteEventParticipant(participant);
+        eventParticipantCacheService.deleteEventParticipant(rootEventId, user.id());
         log.info("이벤트 참가자 삭제: 이벤트ID={}, 사용자ID={}, 삭제자ID={}", eventId, studentId, deletedBy);
     }
 
+    // ========================== Private Methods ==========================
+
+    /** 참가자가 등록되는 최상위 이벤트 조회 */
+    private EventSnapshot getRootEvent(EventSnapshot event) {
+        Long rootEventId = resolveRootEventId(event);
+        if (rootEventId.equals(event.id())) {
+            return event;
+        }
+        return eventCacheService.getEventById(rootEventId)
+                .orElseThrow(() -> new EventNotFoundException("이벤트를 찾을 수 없습니다. ID: " + rootEventId));
+    }
+
+    /** 최상위 이벤트 ID (root_event가 비어 있는 하위 이벤트는 클로저 테이블로 조회) */
+    private Long resolveRootEventId(EventSnapshot event) {
+        if (event.parentEventId() == null) {
+            return event.id();
+        }
+        if (event.rootEventId() != null) {
+            return event.rootEventId();
+        }
+        return eventRepository.findEffectiveRootId(event.id()).orElse(event.id());
+    }
+
 }
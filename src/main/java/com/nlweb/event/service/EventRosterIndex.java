@@ -0,0 +1,314 @@
+package com.nlweb.event.service;
+
+import com.nlweb.event.repository.EventBulkRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongConsumer;
+
+/**
+ * 이벤트 참가자 명단 인덱스
+ * <p>
+ * 전체 참가 관계를 이벤트 ID → 정렬된 사용자 ID 배열, 사용자 ID → 정렬된 이벤트 ID 배열의 두 맵으로 메모리에 보관한다.
+ * 참가 여부는 이진 탐색, 참가자 수는 배열 길이로 답하므로 조회 시 객체를 만들지 않는다.
+ * 변경은 커밋 후 해당 키의 배열만 새로 만들어 교체하므로 조회는 잠금 없이 수행된다.
+ * 다른 노드에는 Redis pub/sub으로 변경을 전파하고(노드 ID를 붙여 자신이 보낸 메시지는 무시), 메시지 유실에 대비해 주기적으로 전체 재적재한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventRosterIndex {
+
+    private static final String CHANNEL = "nlweb:event:roster";
+    private static final long[] EMPTY = new long[0];
+
+    /** 메시지 발신 노드 식별자 (자신이 발행한 변경을 다시 적용하지 않도록) */
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final EventBulkRepository eventBulkRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final Object loadLock = new Object();
+
+    private volatile Roster roster;
+
+    /** 재적재 중 반영된 변경 (적재 완료 후 새 명단에 다시 적용, 재적재 중이 아니면 null) */
+    private List<Change> pendingChanges;
+
+    /** 참가 관계 (이벤트 ID, 사용자 ID) */
+    public record Membership(long eventId, long userId) {
+    }
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> onMessage(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(CHANNEL));
+    }
+
+    /** 참가 여부 */
+    public boolean contains(Long eventId, Long userId) {
+        return userId != null && Arrays.binarySearch(current().usersOf(eventId), userId) >= 0;
+    }
+
+    /** 참가자 수 */
+    public int count(Long eventId) {
+        return current().usersOf(eventId).length;
+    }
+
+    /** 사용자가 참가한 이벤트 수 */
+    public int countEventsOf(Long userId) {
+        return current().eventsOf(userId).length;
+    }
+
+    /** 사용자가 참가한 이벤트 ID 순회 (오름차순, 배열 복사 없음) */
+    public void forEachEventOf(Long userId, LongConsumer action) {
+        for (long eventId : current().eventsOf(userId)) {
+            action.accept(eventId);
+        }
+    }
+
+    /** 참가 추가 반영 및 다른 노드에 전파 (커밋 후 호출) */
+    public void add(Collection<Membership> memberships) {
+        apply(new Change(true, List.copyOf(memberships)));
+    }
+
+    /** 참가 삭제 반영 및 다른 노드에 전파 (커밋 후 호출) */
+    public void remove(Collection<Membership> memberships) {
+        apply(new Change(false, List.copyOf(memberships)));
+    }
+
+    /** 사용자의 모든 참가 삭제 반영 및 다른 노드에 전파 (사용자 영구 삭제 커밋 후 호출, DB cascade는 명단에 반영되지 않음) */
+    public void removeUser(Long userId) {
+        if (userId == null) {
+            return;
+        }
+
+        long[] eventIds = current().eventsOf(userId);
+        List<Membership> memberships = new ArrayList<>(eventIds.length);
+        for (long eventId : eventIds) {
+            memberships.add(new Membership(eventId, userId));
+        }
+        remove(memberships);
+    }
+
+    /** 전체 참가 관계 재적재 (메시지 유실 보정) */
+    @Scheduled(fixedDelayString = "${nlweb.event.roster-refresh-interval-ms:300000}",
+            initialDelayString = "${nlweb.event.roster-refresh-interval-ms:300000}")
+    public void reload() {
+        synchronized (loadLock) {
+            synchronized (this) {
+                pendingChanges = new ArrayList<>();
+            }
+
+            try {
+                Roster loaded = load();
+                synchronized (this) {
+                    pendingChanges.forEach(loaded::apply);
+                    roster = loaded;
+                }
+                log.debug("참가자 명단 인덱스 적재: 이벤트 {}건, 사용자 {}명", loaded.byEvent.size(), loaded.byUser.size());
+            } catch (Exception e) {
+                log.warn("참가자 명단 인덱스 적재 실패: {}", e.getMessage());
+                if (roster == null) {
+                    throw e;
+                }
+            } finally {
+                synchronized (this) {
+                    pendingChanges = null;
+                }
+            }
+        }
+    }
+
+    // ========================== Private Methods ==========================
+
+    private Roster current() {
+        Roster current = roster;
+        if (current == null) {
+            synchronized (loadLock) {
+                if (roster == null) {
+                    reload();
+                }
+                current = roster;
+            }
+        }
+        return current;
+    }
+
+    /** 로컬 반영과 발행을 같은 잠금 안에서 수행 (이 노드의 변경이 반영 순서대로 발행되도록) */
+    private synchronized void apply(Change change) {
+        if (change.memberships.isEmpty()) {
+            return;
+        }
+        applyLocally(change);
+        publish(change);
+    }
+
+    private synchronized void applyLocally(Change change) {
+        if (pendingChanges != null) {
+            pendingChanges.add(change);
+        }
+        Roster current = roster;
+        if (current != null) {
+            current.apply(change);
+        }
+    }
+
+    /** 변경 메시지 형식: "노드ID|+ 이벤트ID:사용자ID 이벤트ID:사용자ID ..." (삭제는 "-") */
+    private void publish(Change change) {
+        StringBuilder message = new StringBuilder(nodeId.length() + change.memberships.size() * 12 + 2);
+        message.append(nodeId).append('|').append(change.added ? '+' : '-');
+        for (Membership membership : change.memberships) {
+            message.append(' ').append(membership.eventId()).append(':').append(membership.userId());
+        }
+
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, message.toString());
+        } catch (Exception e) {
+            log.warn("참가자 명단 변경 메시지 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    /** 다른 노드의 변경 반영 (자신이 발행한 메시지는 이미 반영했으므로 무시) */
+    private void onMessage(String message) {
+        int separator = message.indexOf('|');
+        if (separator < 0 || message.startsWith(nodeId + "|")) {
+            return;
+        }
+
+        try {
+            String body = message.substring(separator + 1);
+            String[] tokens = body.split(" ");
+            List<Membership> memberships = new ArrayList<>(tokens.length - 1);
+            for (int i = 1; i < tokens.length; i++) {
+                int colon = tokens[i].indexOf(':');
+                memberships.add(new Membership(
+                        Long.parseLong(tokens[i], 0, colon, 10),
+                        Long.parseLong(tokens[i], colon + 1, tokens[i].length(), 10)));
+            }
+            applyLocally(new Change(body.startsWith("+"), memberships));
+        } catch (RuntimeException e) {
+            log.warn("참가자 명단 변경 메시지 처리 실패, 전체 재적재합니다: {}", e.getMessage());
+            reload();
+        }
+    }
+
+    /** (이벤트 ID, 사용자 ID) 순으로 읽어 이벤트별 배열은 그대로, 사용자별 배열은 이벤트 ID 순으로 채움 */
+    private Roster load() {
+        RowBuffer rows = new RowBuffer();
+        eventBulkRepository.forEachParticipant(rows::add);
+
+        Map<Long, Integer> eventCounts = new HashMap<>();
+        for (int i = 0; i < rows.size; i++) {
+            eventCounts.merge(rows.userIds[i], 1, Integer::sum);
+        }
+
+        Roster loaded = new Roster();
+        Map<Long, Integer> filled = new HashMap<>();
+        int start = 0;
+        for (int i = 0; i < rows.size; i++) {
+            long userId = rows.userIds[i];
+            long[] events = loaded.byUser.computeIfAbsent(userId, id -> new long[eventCounts.get(id)]);
+            events[filled.merge(userId, 1, Integer::sum) - 1] = rows.eventIds[i];
+
+            if (i + 1 == rows.size || rows.eventIds[i + 1] != rows.eventIds[i]) {
+                loaded.byEvent.put(rows.eventIds[i], Arrays.copyOfRange(rows.userIds, start, i + 1));
+                start = i + 1;
+            }
+        }
+        return loaded;
+    }
+
+    /** 정렬 배열에 값 삽입 (이미 있으면 그대로) */
+    private static long[] insert(long[] values, long value) {
+        int index = Arrays.binarySearch(values, value);
+        if (index >= 0) {
+            return values;
+        }
+
+        int position = -index - 1;
+        long[] inserted = new long[values.length + 1];
+        System.arraycopy(values, 0, inserted, 0, position);
+        inserted[position] = value;
+        System.arraycopy(values, position, inserted, position + 1, values.length - position);
+        return inserted;
+    }
+
+    /** 정렬 배열에서 값 제거 (비면 null을 반환해 키 삭제) */
+    private static long[] delete(long[] values, long value) {
+        int index = Arrays.binarySearch(values, value);
+        if (index < 0) {
+            return values;
+        }
+        if (values.length == 1) {
+            return null;
+        }
+
+        long[] deleted = new long[values.length - 1];
+        System.arraycopy(values, 0, deleted, 0, index);
+        System.arraycopy(values, index + 1, deleted, index, values.length - index - 1);
+        return deleted;
+    }
+
+    /** 참가 관계 변경 묶음 */
+    private record Change(boolean added, List<Membership> memberships) {
+    }
+
+    /** 명단 (쓰기는 인덱스 잠금 안에서만, 읽기는 잠금 없이) */
+    private static final class Roster {
+
+        private final Map<Long, long[]> byEvent = new ConcurrentHashMap<>();
+        private final Map<Long, long[]> byUser = new ConcurrentHashMap<>();
+
+        private long[] usersOf(Long eventId) {
+            long[] userIds = eventId != null ? byEvent.get(eventId) : null;
+            return userIds != null ? userIds : EMPTY;
+        }
+
+        private long[] eventsOf(Long userId) {
+            long[] eventIds = userId != null ? byUser.get(userId) : null;
+            return eventIds != null ? eventIds : EMPTY;
+        }
+
+        private void apply(Change change) {
+            for (Membership membership : change.memberships) {
+                if (change.added) {
+                    byEvent.compute(membership.eventId(), (id, userIds) -> insert(userIds != null ? userIds : EMPTY, membership.userId()));
+                    byUser.compute(membership.userId(), (id, eventIds) -> insert(eventIds != null ? eventIds : EMPTY, membership.eventId()));
+                } else {
+                    byEvent.computeIfPresent(membership.eventId(), (id, userIds) -> delete(userIds, membership.userId()));
+                    byUser.computeIfPresent(membership.userId(), (id, eventIds) -> delete(eventIds, membership.eventId()));
+                }
+            }
+        }
+    }
+
+    /** 적재용 가변 길이 원시 배열 쌍 */
+    private static final class RowBuffer {
+
+        private long[] eventIds = new long[1024];
+        private long[] userIds = new long[1024];
+        private int size;
+
+        private void add(long eventId, long userId) {
+            if (size == eventIds.length) {
+                eventIds = Arrays.copyOf(eventIds, size * 2);
+                userIds = Arrays.copyOf(userIds, size * 2);
+            }
+            eventIds[size] = eventId;
+            userIds[size] = userId;
+            size++;
+        }
+    }
+
+}
@@ -0,0 +1,217 @@
+package com.nlweb.event.service;
+
+import com.nlweb.common.cache.CacheEvictions;
+import com.nlweb.event.repository.EventParticipantRepository;
+import com.nlweb.event.repository.EventRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이벤트 좌석 예약 엔진
+ * <p>
+ * 이벤트별 좌석 카운터를 Redis 해시(event:seats:{eventId}, reserved/confirmed)에 두고
+ * 정원 검사와 증가를 Lua 스크립트 한 번으로 처리해 모든 노드에서 O(1)에 원자적으로 판정한다.
+ * 카운터가 없으면 참가자 행 수로 초기화하고, 커밋된 좌석 수는 주기적으로 events.current_participants에 일괄 반영한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EventSeatReservationService {
+
+    private static final String KEY_PREFIX = "event:seats:";
+    private static final Duration COUNTER_TTL = Duration.ofDays(7);
+
+    /** ARGV: 최대 정원 (빈 문자열이면 무제한), 키 TTL(ms) / 반환: 1 예약, 0 정원 초과, -1 카운터 없음 */
+    private static final RedisScript<Long> RESERVE_SCRIPT = new DefaultRedisScript<>("""
+            local reserved = redis.call('HGET', KEYS[1], 'reserved')
+            if not reserved then
+                return -1
+            end
+            if ARGV[1] ~= '' and tonumber(reserved) >= tonumber(ARGV[1]) then
+                return 0
+            end
+            redis.call('HINCRBY', KEYS[1], 'reserved', 1)
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    /** ARGV: 초기 좌석 수, 키 TTL(ms) (이미 있으면 그대로) */
+    private static final RedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HSETNX', KEYS[1], 'reserved', ARGV[1]) == 1 then
+                redis.call('HSET', KEYS[1], 'confirmed', ARGV[1])
+                redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 1
+            """, Long.class);
+
+    /** ARGV: 필드, 증감 / 반환: 변경 후 값 (0 미만은 0으로 보정), 카운터가 없으면 -1 */
+    private static final RedisScript<Long> ADJUST_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return -1
+            end
+            local value = redis.call('HINCRBY', KEYS[1], ARGV[1], ARGV[2])
+            if value < 0 then
+                redis.call('HSET', KEYS[1], ARGV[1], 0)
+                value = 0
+            end
+            return value
+            """, Long.class);
+
+    private final EventRepository eventRepository;
+    private final EventParticipantRepository eventParticipantRepository;
+    private final EventCacheService eventCacheService;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final CacheEvictions cacheEvictions;
+
+    private final Set<Long> dirtyEventIds = ConcurrentHashMap.newKeySet();
+
+    /** 좌석 예약 (정원 초과 시 false) */
+    public boolean tryReserve(Long eventId, Integer maxParticipants) {
+        String max = maxParticipants != null ? String.valueOf(maxParticipants) : "";
+        String ttl = String.valueOf(COUNTER_TTL.toMillis());
+
+        Long result = stringRedisTemplate.execute(RESERVE_SCRIPT, List.of(key(eventId)), max, ttl);
+        if (result != null && result == -1) {
+            seed(eventId);
+            result = stringRedisTemplate.execute(RESERVE_SCRIPT, List.of(key(eventId)), max, ttl);
+        }
+
+        if (result == null || result != 1) {
+            return false;
+        }
+
+        onCompletion(eventId, 1);
+        return true;
+    }
+
+    /** 좌석 반납 */
+    public void release(Long eventId) {
+        adjust(eventId, "reserved", -1);
+        onCompletion(eventId, -1);
+    }
+
+    /** 커밋된 좌석 수 조회 (Redis 카운터 기준, 카운터가 없으면 null) */
+    public Integer getConfirmedSeats(Long eventId) {
+        Object confirmed = stringRedisTemplate.opsForHash().get(key(eventId), "confirmed");
+        return confirmed != null ? Integer.parseInt(confirmed.toString()) : null;
+    }
+
+    /** 여러 이벤트의 커밋된 좌석 수 조회 (파이프라인 1회, 카운터가 없는 이벤트는 제외) */
+    public Map<Long, Integer> getConfirmedSeats(List<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Object> values = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            byte[] field = "confirmed".getBytes(StandardCharsets.UTF_8);
+            for (Long eventId : eventIds) {
+                connection.hashCommands().hGet(key(eventId).getBytes(StandardCharsets.UTF_8), field);
+            }
+            return null;
+        });
+
+        Map<Long, Integer> seats = new HashMap<>();
+        for (int i = 0; i < eventIds.size(); i++) {
+            Object value = values.get(i);
+            if (value != null) {
+                seats.put(eventIds.get(i), Integer.parseInt(value.toString()));
+            }
+        }
+        return seats;
+    }
+
+    /** 이벤트 카운터 제거 (이벤트 삭제 커밋 후, 롤백되면 카운터 유지) */
+    public void forget(Collection<Long> eventIds) {
+        List<Long> deletedEventIds = List.copyOf(eventIds);
+        cacheEvictions.afterCommit(() -> {
+            dirtyEventIds.removeAll(deletedEventIds);
+            stringRedisTemplate.delete(deletedEventIds.stream().map(this::key).toList());
+        });
+    }
+
+    /** 확정 좌석 수를 DB에 일괄 반영 (write-behind, Redis의 전체 노드 합산 값 기준) */
+    @Scheduled(fixedDelayString = "${nlweb.event.seat-flush-interval-ms:500}")
+    public void flushConfirmedSeats() {
+        for (Long eventId : dirtyEventIds) {
+            dirtyEventIds.remove(eventId);
+
+            try {
+                Object confirmed = stringRedisTemplate.opsForHash().get(key(eventId), "confirmed");
+                int seats = confirmed != null ? Integer.parseInt(confirmed.toString())
+                        : (int) eventParticipantRepository.countByEventId(eventId);
+                eventRepository.updateCurrentParticipants(eventId, seats);
+                eventCacheService.evictEventCache(eventId);
+            } catch (Exception e) {
+                dirtyEventIds.add(eventId);
+                log.error("이벤트 {} 참가자 수 반영 실패: {}", eventId, e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushConfirmedSeats();
+    }
+
+    // ========================== Private Methods ==========================
+
+    private String key(Long eventId) {
+        return KEY_PREFIX + eventId;
+    }
+
+    /** 카운터 초기화 (참가자 행 수 기준, 다른 노드가 먼저 만들었으면 그대로 사용) */
+    private void seed(Long eventId) {
+        long seeded = eventParticipantRepository.countByEventId(eventId);
+        stringRedisTemplate.execute(SEED_SCRIPT, List.of(key(eventId)),
+                String.valueOf(seeded), String.valueOf(COUNTER_TTL.toMillis()));
+    }
+
+    private long adjust(Long eventId, String field, int delta) {
+        Long value = stringRedisTemplate.execute(ADJUST_SCRIPT, List.of(key(eventId)), field, String.valueOf(delta));
+        return value != null ? value : -1;
+    }
+
+    /** 트랜잭션 결과에 따라 확정 또는 보상 처리 */
+    private void onCompletion(Long eventId, int delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            confirm(eventId, delta);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    confirm(eventId, delta);
+                } else {
+                    adjust(eventId, "reserved", -delta);
+                }
+            }
+        });
+    }
+
+    /** 확정 좌석 수 반영 (카운터가 만료됐으면 다음 예약 시 참가자 행 수로 다시 초기화) */
+    private void confirm(Long eventId, int delta) {
+        adjust(eventId, "confirmed", delta);
+        dirtyEventIds.add(eventId);
+    }
+
+}
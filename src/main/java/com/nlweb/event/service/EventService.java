@@ -8,16 +8,20 @@ import com.nlweb.event.dto.*;
 import com.nlweb.event.entity.*;
 import com.nlweb.event.repository.*;
 import com.nlweb.admin.entity.Admin;
+import com.nlweb.admin.repository.AdminRepository;
 import com.nlweb.admin.service.AdminCacheService;
-import com.nlweb.user.entity.User;
+import com.nlweb.user.dto.UserSnapshot;
 import com.nlweb.user.service.UserCacheService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -27,9 +31,13 @@ import java.util.stream.Collectors;
 public class EventService {
 
     private final EventRepository eventRepository;
+    private final EventBulkRepository eventBulkRepository;
     private final EventCacheService eventCacheService;
     private final EventParticipantCacheService eventParticipantCacheService;
+    private final EventSeatReservationService eventSeatReservationService;
+    private final EventTimelineIndex eventTimelineIndex;
     private final AdminCacheService adminCacheService;
+    private final AdminRepository adminRepository;
     private final UserCacheService userCacheService;
 
     // ================ Create ================
@@ -37,16 +45,20 @@ public class EventService {
     @Transactional
     public CreateEventResponse createEvent(String createdBy, CreateEventRequest request) {
 
-        Admin admin = adminCacheService.getAdmin(createdBy)
+        Admin admin = adminRepository.findByStudentId(createdBy)
                 .orElseThrow(() -> new AdminNotFoundException("관리자를 찾을 수 없습니다: " + createdBy));
 
         Event parentEvent = null;
         if (request.getParentEventId() != null) {
-            parentEvent = eventCacheService.getEventById(request.getParentEventId())
+            parentEvent = eventRepository.findById(request.getParentEventId())
                     .orElseThrow(() -> new IllegalArgumentException("상위 이벤트를 찾을 수 없습니다. ID: " + request.getParentEventId()));
         }
 
-        Event rootEvent = (parentEvent != null) ? parentEvent.getRootEvent() : null;
+        // 상위 이벤트가 최상위 이벤트면 root_event가 비어 있으므로 상위 이벤트 자신이 최상위
+        Event rootEvent = null;
+        if (parentEvent != null) {
+            rootEvent = (parentEvent.getRootEvent() != null) ? parentEvent.getRootEvent() : parentEvent;
+        }
 
         Event event = Event.builder()
                 .title(request.getTitle())
@@ -63,6 +75,11 @@ public class EventService {
 
         Event savedEvent = eventCacheService.saveEvent(event);
 
+        if (parentEvent != null) {
+            parentEvent.getChildEvents().add(savedEvent);
+            eventCacheService.refreshEvent(parentEvent);
+        }
+
         log.info("이벤트 생성: ID={}, 제목='{}', 생성자='{}'", savedEvent.getId(), savedEvent.getTitle(), createdBy);
 
         return CreateEventResponse.fromEntity(savedEvent);
@@ -73,79 +90,91 @@ public class EventService {
     /** 모든 이벤트 조회 */
     @Transactional
     public List<EventInfo> getAllEvents() {
-        List<Event> events = eventCacheService.getAllEvents();
-        return events.stream()
-                .map(EventInfo::fromEntity)
-                .collect(Collectors.toList());
+        return toEventInfos(eventCacheService.getAllEvents());
     }
 
     /** 이벤트 ID로 이벤트 조회 */
     @Transactional
     public EventInfo getEventById(Long eventId) {
-        Event event = eventCacheService.getEventById(eventId)
+        EventSnapshot event = eventCacheService.getEventById(eventId)
                 .orElseThrow(() -> new IllegalArgumentException("이벤트를 찾을 수 없습니다. ID: " + eventId));
-        return EventInfo.fromEntity(event);
+        return toEventInfo(event);
+    }
+
+    /** 이벤트 상세 집계 조회 (이벤트, 하위 이벤트, 참가자, 정원 상태, 캐시된 집계 + 실시간 좌석 수) */
+    public EventDetailResponse getEventDetail(Long eventId, boolean includePrivateInfo) {
+        EventDetailSnapshot detail = eventCacheService.getEventDetail(eventId);
+        if (detail == null) {
+            throw new EventNotFoundException("이벤트를 찾을 수 없습니다. ID: " + eventId);
+        }
+
+        EventSnapshot event = detail.event();
+        Long rootEventId = detail.rootEventId();
+        EventSnapshot rootEvent = detail.rootEvent() != null ? detail.rootEvent() : event;
+
+        Integer confirmedSeats = eventSeatReservationService.getConfirmedSeats(rootEventId);
+        int confirmed = confirmedSeats != null ? confirmedSeats : detail.participants().size();
+        Integer maxParticipants = rootEvent.maxParticipants();
+        Integer remainingSeats = maxParticipants != null ? Math.max(0, maxParticipants - confirmed) : null;
+
+        return EventDetailResponse.builder()
+                .event(toEventInfo(event))
+                .childEvents(toEventInfos(detail.childEvents()))
+                .participants(detail.participants().stream()
+                        .map(participant -> EventParticipantInfo.fromSnapshot(participant, includePrivateInfo))
+                        .toList())
+                .capacity(EventDetailResponse.Capacity.builder()
+                        .rootEventId(rootEventId)
+                        .maxParticipants(maxParticipants)
+                        .confirmedParticipants(confirmed)
+                        .remainingSeats(remainingSeats)
+                        .isFull(remainingSeats != null && remainingSeats == 0)
+                        .build())
+                .etag("W/\"" + detail.contentHash() + "-" + confirmed + (includePrivateInfo ? "-p" : "") + "\"")
+                .build();
     }
 
     /** 모든 활성 이벤트 조회 */
     @Transactional
     public List<EventInfo> getAllActiveEvents() {
-        List<Event> events = eventCacheService.getAllActiveEvents();
-        return events.stream()
-                .map(EventInfo::fromEntity)
-                .collect(Collectors.toList());
+        return toEventInfos(eventCacheService.getAllActiveEvents());
     }
 
     /** 모든 다가오는 이벤트 조회 */
     @Transactional
     public List<EventInfo> getAllUpcomingEvents() {
-        return eventCacheService.getAllUpcomingEvents(LocalDateTime.now())
-                .stream()
-                .map(EventInfo::fromEntity)
-                .collect(Collectors.toList());
+        return toEventInfos(getEventTimeline().findUpcoming(LocalDateTime.now()));
     }
 
     /** 모든 진행 중인 이벤트 조회 */
     @Transactional
     public List<EventInfo> getAllOngoingEvents() {
-        return eventCacheService.getAllOngoingEvents(LocalDateTime.now())
-                .stream()
-                .map(EventInfo::fromEntity)
-                .collect(Collectors.toList());
+        return toEventInfos(getEventTimeline().findOngoing(LocalDateTime.now()));
     }
 
     /** 모든 기간이 끝난 이벤트 조회 */
     @Transactional
     public List<EventInfo> getAllPastEvents() {
-        return eventCacheService.getAllPastEvents(LocalDateTime.now())
-                .stream()
-                .map(EventInfo::fromEntity)
-                .collect(Collectors.toList());
+        return toEventInfos(getEventTimeline().findPast(LocalDateTime.now()));
     }
 
     /** 이벤트 타입별 모든 이벤트 조회 */
     @Transactional
     public List<EventInfo> getAllEventsByType(EventType eventType) {
-        return eventCacheService.getAllEventsByEventType(eventType)
-                .stream()
-                .map(EventInfo::fromEntity)
-                .collect(Collectors.toList());
+        return toEventInfos(eventCacheService.getAllEventsByEventType(eventType));
     }
 
     /** 학생 ID로 모든 이벤트 조회 (참가자 기준) */
     @Transactional
     public List<EventInfo> getAllEventsByStudentId(String studentId) {
 
-        User user = userCacheService.getUserByStudentId(studentId)
+        UserSnapshot user = userCacheService.getUserByStudentId(studentId)
                 .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다. 학번: " + studentId));
 
-        List<EventParticipant> participants = eventParticipantCacheService.getParticipantsByUserId(user.getId());
-
-        return participants.stream()
-                .map(EventParticipant::getEvent)
-                .distinct()
-                .map(EventInfo::fromEntity)
-                .collect(Collectors.toList());
+        return toEventInfos(eventParticipantCacheService.getEventIdsByUserId(user.id()).stream()
+                .map(eventCacheService::getEventById)
+                .flatMap(Optional::stream)
+                .toList());
     }
 
     // ================ Update ================
@@ -154,7 +183,7 @@ public class EventService {
     @Transactional
     public UpdateEventResponse updateEvent(Long eventId, UpdateEventRequest request, String updatedBy) {
 
-        Event event = eventCacheService.getEventById(eventId)
+        Event event = eventRepository.findById(eventId)
             .orElseThrow(() -> new EventNotFoundException("이벤트를 찾을 수 없습니다. ID: " + eventId));
 
         if (!adminCacheService.isAdmin(updatedBy)) {
@@ -180,9 +209,7 @@ public class EventService {
             event.setMaxParticipants(request.getMaxParticipants());
         }
 
-        Event updatedEvent = eventRepository.save(event);
-
-        eventCacheService.evictAllEventCaches();
+        Event updatedEvent = eventCacheService.saveEvent(event);
 
         log.info("이벤트 수정: ID={}, 제목='{}', 수정자='{}'", updatedEvent.getId(), updatedEvent.getTitle(), updatedBy);
 
@@ -192,7 +219,7 @@ public class EventService {
     /** 이벤트 활성화 */
     @Transactional
     public void activateEvent(Long eventId, String activatedBy) {
-        Event event = eventCacheService.getEventById(eventId)
+        Event event = eventRepository.findById(eventId)
             .orElseThrow(() -> new EventNotFoundException("이벤트를 찾을 수 없습니다. ID: " + eventId));
 
         if (!adminCacheService.isAdmin(activatedBy)) {
@@ -200,9 +227,7 @@ public class EventService {
         }
 
         event.activate();
-        eventRepository.save(event);
-
-        // 캐시 무효화
+        eventCacheService.saveEvent(event);
 
         log.info("이벤트 활성화: ID={}, 제목='{}', 활성화자='{}'", event.getId(), event.getTitle(), activatedBy);
     }
@@ -210,50 +235,95 @@ public class EventService {
     /** 이벤트 비활성화 */
     @Transactional
     public void deactivateEvent(Long eventId, String deactivatedBy) {
-        Event event = eventCacheService.getEventById(eventId)
+        Event event = eventRepository.findById(eventId)
             .orElseThrow(() -> new EventNotFoundException("이벤트를 찾을 수 없습니다. ID: " + eventId));
 
         if (!adminCacheService.isAdmin(deactivatedBy)) {
             throw new IllegalStateException("이벤트 비활성화 권한이 없습니다.");
         }
 
-        // 캐시 무효화
-        eventCacheService.evictAllEventCaches();
+        event.deactivate();
+        eventCacheService.saveEvent(event);
 
         log.info("이벤트 비활성화: ID={}, 제목='{}', 비활성화자='{}'", event.getId(), event.getTitle(), deactivatedBy);
     }
 
     // ================ Delete ================
 
-    /** 이벤트 삭제 (하위 이벤트 포함) */
+    /** 이벤트 삭제 (하위 이벤트 포함, 트리 조회 1회 + 참가자/이벤트 일괄 DELETE) */
     @Transactional
-    public void deleteEvent(Long eventId, String deletedBy) {
+    public DeleteEventResponse deleteEvent(Long eventId, String deletedBy) {
 
-        Event event = eventCacheService.getEventById(eventId)
+        Event event = eventRepository.findById(eventId)
             .orElseThrow(() -> new EventNotFoundException("이벤트를 찾을 수 없습니다. ID: " + eventId));
 
         if (!adminCacheService.isAdmin(deletedBy)) {
             throw new IllegalStateException("이벤트 삭제 권한이 없습니다.");
         }
 
-        deleteAllChildEvents(event, deletedBy);
-        eventParticipantCacheService.deleteParticipantsByEventId(eventId);
-        eventCacheService.deleteEvent(eventId);
+        // 1. 하위 트리 전체 ID (재귀 CTE)
+        List<Long> eventIds = eventBulkRepository.findSubtreeIds(eventId);
+
+        // 2. 참가자 → 이벤트 순으로 일괄 삭제
+        List<EventBulkRepository.DeletedParticipant> deletedParticipants =
+                eventBulkRepository.deleteParticipantsByEventIds(eventIds);
+        int deletedEvents = eventBulkRepository.deleteEventsByIds(eventIds);
 
-        log.info("이벤트 삭제 완료: ID={}, 제목='{}', 삭제자='{}'", event.getId(), event.getTitle(), deletedBy);
+        // 3. 커밋 후 삭제된 키만 캐시 무효화
+        eventParticipantCacheService.evictDeletedParticipants(eventIds, deletedParticipants);
+        eventCacheService.removeEvents(eventIds);
+        eventSeatReservationService.forget(eventIds);
+
+        Event parentEvent = event.getParentEvent();
+        if (parentEvent != null) {
+            parentEvent.getChildEvents().remove(event);
+            eventCacheService.refreshEvent(parentEvent);
+        }
+
+        log.info("이벤트 삭제 완료: ID={}, 제목='{}', 삭제자='{}', 이벤트 {}건, 참가자 {}건",
+                event.getId(), event.getTitle(), deletedBy, deletedEvents, deletedParticipants.size());
+
+        return DeleteEventResponse.builder()
+                .eventId(event.getId())
+                .title(event.getTitle())
+                .deletedEventCount(deletedEvents)
+                .deletedParticipantCount(deletedParticipants.size())
+                .message("이벤트가 하위 이벤트와 함께 삭제되었습니다.")
+                .build();
     }
 
-    /** 하위 이벤트 및 관련 참가자 모두 삭제 (재귀적) */
-    @Transactional
-    protected void deleteAllChildEvents(Event parentEvent, String deletedBy) {
-        List<Event> childEvents = eventRepository.findByParentEvent(parentEvent);
-
-        for (Event child : childEvents) {
-            deleteAllChildEvents(child, deletedBy);
-            eventParticipantCacheService.deleteParticipantsByEventId(child.getId());
-            eventRepository.delete(child);
-            log.info("하위 이벤트 삭제: ID={}, 제목='{}', 삭제자='{}'", child.getId(), child.getTitle(), deletedBy);
+    /** 이벤트 타임라인 인덱스 주기적 재구성 (다른 노드의 변경 반영) */
+    @Scheduled(fixedDelayString = "${nlweb.event.timeline-refresh-interval-ms:60000}")
+    public void refreshEventTimeline() {
+        eventTimelineIndex.replaceAll(eventCacheService.getAllActiveEvents());
+    }
+
+    // ========================== Private Methods ==========================
+
+    /** 타임라인 인덱스 조회 (최초 조회 시 활성 이벤트 목록으로 적재) */
+    private EventTimelineIndex getEventTimeline() {
+        if (!eventTimelineIndex.isReady()) {
+            refreshEventTimeline();
         }
+        return eventTimelineIndex;
+    }
+
+    /** 캐시된 스냅샷에 최신 참가자 수를 덧씌워 응답으로 변환 (참가자 수 변경은 목록 캐시를 무효화하지 않음) */
+    private EventInfo toEventInfo(EventSnapshot event) {
+        Integer confirmedSeats = eventSeatReservationService.getConfirmedSeats(event.id());
+        return EventInfo.fromSnapshot(confirmedSeats != null ? event.withCurrentParticipants(confirmedSeats) : event);
+    }
+
+    /** 목록 변환 (좌석 수는 파이프라인 한 번으로 일괄 조회) */
+    private List<EventInfo> toEventInfos(List<EventSnapshot> events) {
+        Map<Long, Integer> confirmedSeats = eventSeatReservationService.getConfirmedSeats(
+                events.stream().map(EventSnapshot::id).toList());
+        return events.stream()
+                .map(event -> {
+                    Integer seats = confirmedSeats.get(event.id());
+                    return EventInfo.fromSnapshot(seats != null ? event.withCurrentParticipants(seats) : event);
+                })
+                .collect(Collectors.toList());
     }
 
 }
@@ -0,0 +1,243 @@
+package com.nlweb.event.service;
+
+import com.nlweb.event.dto.EventSnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 활성 이벤트 타임라인 인덱스 (다가오는/진행 중/종료 이벤트 조회용)
+ * <p>
+ * 이벤트 기간을 일(day) 단위 구간 [시작일, 종료일]로 보고 다음 구조를 불변 스냅샷으로 유지한다.
+ * - 시작일 정렬 배열: 다가오는 이벤트 (시작일 > 오늘) 이진 탐색
+ * - 종료일 정렬 배열: 종료된 이벤트 (종료일 < 오늘) 이진 탐색
+ * - 중심 구간 트리: 진행 중 이벤트 (시작일 <= 오늘 <= 종료일) 구간 질의
+ * 세 질의 모두 O(log n + k)이며, 변경 시 새 스냅샷으로 교체하므로 조회는 잠금 없이 수행된다.
+ */
+@Slf4j
+@Component
+public class EventTimelineIndex {
+
+    private static final Comparator<EventSnapshot> BY_START =
+            Comparator.comparing(EventSnapshot::startDateTime).thenComparing(EventSnapshot::id);
+    private static final Comparator<EventSnapshot> BY_END =
+            Comparator.comparing(EventSnapshot::endDateTime).thenComparing(EventSnapshot::id);
+
+    private volatile Timeline timeline;
+
+    /** 인덱스 적재 여부 */
+    public boolean isReady() {
+        return timeline != null;
+    }
+
+    /** 전체 활성 이벤트로 인덱스 재구성 */
+    public synchronized void replaceAll(Collection<EventSnapshot> events) {
+        Map<Long, EventSnapshot> eventsById = new HashMap<>();
+        for (EventSnapshot event : events) {
+            if (isIndexable(event)) {
+                eventsById.put(event.id(), event);
+            }
+        }
+        timeline = new Timeline(eventsById);
+        log.debug("이벤트 타임라인 인덱스 재구성: {}건", eventsById.size());
+    }
+
+    /** 이벤트 추가/수정 반영 (비활성 이벤트는 제거) */
+    public synchronized void upsert(EventSnapshot event) {
+        Timeline current = timeline;
+        if (current == null) {
+            return;
+        }
+
+        Map<Long, EventSnapshot> eventsById = new HashMap<>(current.eventsById);
+        if (isIndexable(event)) {
+            eventsById.put(event.id(), event);
+        } else {
+            eventsById.remove(event.id());
+        }
+        timeline = new Timeline(eventsById);
+    }
+
+    /** 이벤트 제거 */
+    public synchronized void remove(Long eventId) {
+        Timeline current = timeline;
+        if (current == null || !current.eventsById.containsKey(eventId)) {
+            return;
+        }
+
+        Map<Long, EventSnapshot> eventsById = new HashMap<>(current.eventsById);
+        eventsById.remove(eventId);
+        timeline = new Timeline(eventsById);
+    }
+
+    /** 다가오는 이벤트 (시작일이 기준일 이후, 시작 시각 오름차순) */
+    public List<EventSnapshot> findUpcoming(LocalDateTime now) {
+        Timeline current = requireTimeline();
+        int from = lowerBound(current.startDays, epochDay(now) + 1);
+        return List.of(Arrays.copyOfRange(current.byStart, from, current.byStart.length));
+    }
+
+    /** 진행 중인 이벤트 (기준일이 기간에 포함, 시작 시각 오름차순) */
+    public List<EventSnapshot> findOngoing(LocalDateTime now) {
+        Timeline current = requireTimeline();
+        List<EventSnapshot> result = new ArrayList<>();
+        if (current.dayTree != null) {
+            current.dayTree.stab(epochDay(now), result);
+        }
+        result.sort(BY_START);
+        return result;
+    }
+
+    /** 종료된 이벤트 (종료일이 기준일 이전, 종료 시각 내림차순) */
+    public List<EventSnapshot> findPast(LocalDateTime now) {
+        Timeline current = requireTimeline();
+        int to = lowerBound(current.endDays, epochDay(now));
+        List<EventSnapshot> result = new ArrayList<>(to);
+        for (int i = to - 1; i >= 0; i--) {
+            result.add(current.byEnd[i]);
+        }
+        return result;
+    }
+
+    // ========================== Private Methods ==========================
+
+    private Timeline requireTimeline() {
+        Timeline current = timeline;
+        if (current == null) {
+            throw new IllegalStateException("이벤트 타임라인 인덱스가 아직 적재되지 않았습니다.");
+        }
+        return current;
+    }
+
+    private static boolean isIndexable(EventSnapshot event) {
+        return Boolean.TRUE.equals(event.isActive())
+                && event.startDateTime() != null
+                && event.endDateTime() != null;
+    }
+
+    private static long epochDay(LocalDateTime dateTime) {
+        return dateTime.toLocalDate().toEpochDay();
+    }
+
+    /** 정렬된 배열에서 key 이상인 첫 위치 */
+    private static int lowerBound(long[] values, long key) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /** 불변 인덱스 스냅샷 */
+    private static final class Timeline {
+
+        private final Map<Long, EventSnapshot> eventsById;
+        private final EventSnapshot[] byStart;
+        private final long[] startDays;
+        private final EventSnapshot[] byEnd;
+        private final long[] endDays;
+        private final IntervalNode dayTree;
+
+        private Timeline(Map<Long, EventSnapshot> eventsById) {
+            this.eventsById = Map.copyOf(eventsById);
+
+            this.byStart = eventsById.values().toArray(EventSnapshot[]::new);
+            Arrays.sort(byStart, BY_START);
+            this.startDays = Arrays.stream(byStart).mapToLong(event -> epochDay(event.startDateTime())).toArray();
+
+            this.byEnd = eventsById.values().toArray(EventSnapshot[]::new);
+            Arrays.sort(byEnd, BY_END);
+            this.endDays = Arrays.stream(byEnd).mapToLong(event -> epochDay(event.endDateTime())).toArray();
+
+            this.dayTree = IntervalNode.build(Arrays.stream(byStart)
+                    .filter(event -> !event.endDateTime().isBefore(event.startDateTime()))
+                    .toList());
+        }
+    }
+
+    /** 중심 구간 트리 노드 (구간: [시작일, 종료일]) */
+    private static final class IntervalNode {
+
+        private final long center;
+        private final EventSnapshot[] byStartDay;
+        private final EventSnapshot[] byEndDayDesc;
+        private final IntervalNode left;
+        private final IntervalNode right;
+
+        private IntervalNode(long center, List<EventSnapshot> overlapping, IntervalNode left, IntervalNode right) {
+            this.center = center;
+            this.byStartDay = overlapping.stream()
+                    .sorted(Comparator.comparingLong(event -> epochDay(event.startDateTime())))
+                    .toArray(EventSnapshot[]::new);
+            this.byEndDayDesc = overlapping.stream()
+                    .sorted(Comparator.comparingLong((EventSnapshot event) -> epochDay(event.endDateTime())).reversed())
+                    .toArray(EventSnapshot[]::new);
+            this.left = left;
+            this.right = right;
+        }
+
+        private static IntervalNode build(List<EventSnapshot> events) {
+            if (events.isEmpty()) {
+                return null;
+            }
+
+            long[] endpoints = new long[events.size() * 2];
+            for (int i = 0; i < events.size(); i++) {
+                endpoints[i * 2] = epochDay(events.get(i).startDateTime());
+                endpoints[i * 2 + 1] = epochDay(events.get(i).endDateTime());
+            }
+            Arrays.sort(endpoints);
+            long center = endpoints[endpoints.length / 2];
+
+            List<EventSnapshot> leftEvents = new ArrayList<>();
+            List<EventSnapshot> rightEvents = new ArrayList<>();
+            List<EventSnapshot> overlapping = new ArrayList<>();
+
+            for (EventSnapshot event : events) {
+                if (epochDay(event.endDateTime()) < center) {
+                    leftEvents.add(event);
+                } else if (epochDay(event.startDateTime()) > center) {
+                    rightEvents.add(event);
+                } else {
+                    overlapping.add(event);
+                }
+            }
+
+            return new IntervalNode(center, overlapping, build(leftEvents), build(rightEvents));
+        }
+
+        private void stab(long day, List<EventSnapshot> result) {
+            if (day < center) {
+                for (EventSnapshot event : byStartDay) {
+                    if (epochDay(event.startDateTime()) > day) {
+                        break;
+                    }
+                    result.add(event);
+                }
+                if (left != null) {
+                    left.stab(day, result);
+                }
+            } else if (day > center) {
+                for (EventSnapshot event : byEndDayDesc) {
+                    if (epochDay(event.endDateTime()) < day) {
+                        break;
+                    }
+                    result.add(event);
+                }
+                if (right != null) {
+                    right.stab(day, result);
+                }
+            } else {
+                result.addAll(Arrays.asList(byStartDay));
+            }
+        }
+    }
+
+}
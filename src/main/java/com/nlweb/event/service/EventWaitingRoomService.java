@@ -0,0 +1,360 @@
+package com.nlweb.event.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nlweb.admin.service.AdminCacheService;
+import com.nlweb.common.enums.EventApplicationStatus;
+import com.nlweb.common.exception.event.EventNotFoundException;
+import com.nlweb.config.properties.WaitingRoomProperties;
+import com.nlweb.event.dto.CreateEventParticipantBatchResult;
+import com.nlweb.event.dto.EventApplicationTicket;
+import com.nlweb.event.dto.EventParticipantInfo;
+import com.nlweb.event.dto.EventSnapshot;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 인기 신청 이벤트용 대기열
+ * <p>
+ * 대기열이 열린 이벤트의 신청은 즉시 티켓만 발급하고,
+ * 이벤트별 단일 소비자가 batchSize 단위로 모아 한 트랜잭션에서 일괄 저장한다.
+ * 열림 상태, 대기열, 티켓은 모두 TTL이 있는 Redis 키에 두고,
+ * 소비자는 이벤트별 Redis 잠금을 잡은 노드 하나만 동작한다.
+ */
+@Slf4j
+@Service
+public class EventWaitingRoomService {
+
+    private static final String OPEN_KEY_PREFIX = "waiting-room:open:";
+    private static final String QUEUE_KEY_PREFIX = "waiting-room:queue:";
+    private static final String TICKET_KEY_PREFIX = "waiting-room:ticket:";
+    private static final String LOCK_KEY_PREFIX = "waiting-room:lock:";
+    private static final String ROOMS_KEY = "waiting-room:rooms";
+
+    /** KEYS: 열림 키, 대기열 키 / ARGV: 티켓 ID, 최대 길이, 대기열 TTL(ms) / 반환: 1 등록, 0 가득 참, -1 닫힘 */
+    private static final RedisScript<Long> ENQUEUE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return -1
+            end
+            if redis.call('LLEN', KEYS[2]) >= tonumber(ARGV[2]) then
+                return 0
+            end
+            redis.call('RPUSH', KEYS[2], ARGV[1])
+            redis.call('PEXPIRE', KEYS[2], ARGV[3])
+            return 1
+            """, Long.class);
+
+    /** KEYS: 잠금 키 / ARGV: 소유자, TTL(ms) / 반환: 1 연장, 0 소유자 아님 */
+    private static final RedisScript<Long> RENEW_LOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    /** KEYS: 잠금 키 / ARGV: 소유자 / 반환: 1 해제, 0 소유자 아님 */
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final EventParticipantService eventParticipantService;
+    private final EventCacheService eventCacheService;
+    private final AdminCacheService adminCacheService;
+    private final WaitingRoomProperties waitingRoomProperties;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ExecutorService consumerExecutor;
+
+    /** 이 노드에서 소비 작업이 등록된 이벤트 (노드 간 배타는 Redis 잠금으로 보장) */
+    private final Set<Long> drainingEventIds = ConcurrentHashMap.newKeySet();
+
+    public EventWaitingRoomService(EventParticipantService eventParticipantService,
+                                   EventCacheService eventCacheService,
+                                   AdminCacheService adminCacheService,
+                                   WaitingRoomProperties waitingRoomProperties,
+                                   StringRedisTemplate stringRedisTemplate,
+                                   ObjectMapper objectMapper) {
+        this.eventParticipantService = eventParticipantService;
+        this.eventCacheService = eventCacheService;
+        this.adminCacheService = adminCacheService;
+        this.waitingRoomProperties = waitingRoomProperties;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.consumerExecutor = Executors.newFixedThreadPool(waitingRoomProperties.getConsumerThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "waiting-room-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /** 대기열 열기 */
+    public void open(Long eventId, String openedBy) {
+        EventSnapshot event = eventCacheService.getEventById(eventId)
+                .orElseThrow(() -> new EventNotFoundException("이벤트를 찾을 수 없습니다. ID: " + eventId));
+
+        if (!adminCacheService.isAdmin(openedBy)) {
+            throw new IllegalStateException("대기열 설정 권한이 없습니다.");
+        }
+
+        if (!event.eventType().isApplicationType()) {
+            throw new IllegalStateException("신청 이벤트에만 대기열을 열 수 있습니다.");
+        }
+
+        stringRedisTemplate.opsForValue().set(OPEN_KEY_PREFIX + eventId, openedBy, waitingRoomProperties.getRoomTtl());
+        stringRedisTemplate.opsForSet().add(ROOMS_KEY, eventId.toString());
+
+        log.info("대기열 열기: 이벤트ID={}, 설정자='{}'", eventId, openedBy);
+    }
+
+    /** 대기열 닫기 (이미 접수된 티켓은 계속 처리) */
+    public void close(Long eventId, String closedBy) {
+        if (!adminCacheService.isAdmin(closedBy)) {
+            throw new IllegalStateException("대기열 설정 권한이 없습니다.");
+        }
+
+        stringRedisTemplate.delete(OPEN_KEY_PREFIX + eventId);
+        scheduleDrain(eventId);
+
+        log.info("대기열 닫기: 이벤트ID={}, 설정자='{}'", eventId, closedBy);
+    }
+
+    /** 대기열 사용 여부 확인 */
+    public boolean isOpen(Long eventId) {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(OPEN_KEY_PREFIX + eventId));
+    }
+
+    /** 참가 신청을 대기열에 등록하고 티켓 발급 */
+    public EventApplicationTicket enqueue(Long eventId, String studentId) {
+        EventApplicationTicket ticket = EventApplicationTicket.builder()
+                .ticketId(UUID.randomUUID().toString())
+                .eventId(eventId)
+                .studentId(studentId)
+                .status(EventApplicationStatus.PENDING)
+                .requestedAt(LocalDateTime.now())
+                .build();
+
+        // 대기 티켓은 만료 시간 이후에도 거절 결과를 조회할 수 있도록 보관 시간만큼 더 유지
+        saveTicket(ticket, waitingRoomProperties.getPendingTimeout().plus(waitingRoomProperties.getTicketRetention()));
+
+        Long result = stringRedisTemplate.execute(ENQUEUE_SCRIPT,
+                List.of(OPEN_KEY_PREFIX + eventId, QUEUE_KEY_PREFIX + eventId),
+                ticket.getTicketId(),
+                String.valueOf(waitingRoomProperties.getQueueCapacity()),
+                String.valueOf(waitingRoomProperties.getRoomTtl().toMillis()));
+
+        if (result == null || result < 0) {
+            stringRedisTemplate.delete(TICKET_KEY_PREFIX + ticket.getTicketId());
+            throw new IllegalStateException("대기열이 열려 있지 않은 이벤트입니다. ID: " + eventId);
+        }
+
+        if (result == 0) {
+            stringRedisTemplate.delete(TICKET_KEY_PREFIX + ticket.getTicketId());
+            log.warn("이벤트 {} 대기열이 가득 찼습니다.", eventId);
+            throw new IllegalStateException("대기 인원이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        scheduleDrain(eventId);
+        return ticket;
+    }
+
+    /** 티켓 조회 */
+    public EventApplicationTicket getTicket(Long eventId, String ticketId, String requestedBy) {
+        EventApplicationTicket ticket = findTicket(ticketId);
+
+        if (ticket == null || !Objects.equals(ticket.getEventId(), eventId)) {
+            throw new IllegalArgumentException("티켓을 찾을 수 없습니다: " + ticketId);
+        }
+
+        if (!Objects.equals(ticket.getStudentId(), requestedBy) && !adminCacheService.isAdmin(requestedBy)) {
+            throw new IllegalStateException("다른 사용자의 티켓을 조회할 권한이 없습니다.");
+        }
+
+        return ticket;
+    }
+
+    /** 대기 중인 대기열 소비 (다른 노드에서 접수된 신청이나 중단된 소비자의 남은 신청 처리) */
+    @Scheduled(fixedDelayString = "${nlweb.waiting-room.poll-interval-ms:1000}")
+    public void pollRooms() {
+        Set<String> eventIds = stringRedisTemplate.opsForSet().members(ROOMS_KEY);
+        if (eventIds == null) {
+            return;
+        }
+
+        for (String eventId : eventIds) {
+            scheduleDrain(Long.valueOf(eventId));
+        }
+    }
+
+    /** 닫혔고 남은 신청이 없는 대기열 정리 (티켓은 TTL로 만료) */
+    @Scheduled(fixedDelay = 60000)
+    public void cleanupRooms() {
+        Set<String> eventIds = stringRedisTemplate.opsForSet().members(ROOMS_KEY);
+        if (eventIds == null) {
+            return;
+        }
+
+        for (String eventId : eventIds) {
+            Long queued = stringRedisTemplate.opsForList().size(QUEUE_KEY_PREFIX + eventId);
+            if (!isOpen(Long.valueOf(eventId)) && (queued == null || queued == 0)) {
+                stringRedisTemplate.opsForSet().remove(ROOMS_KEY, eventId);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        consumerExecutor.shutdown();
+    }
+
+    // ========================== Private Methods ==========================
+
+    /** 이 노드에 해당 이벤트 소비 작업이 없을 때만 등록 */
+    private void scheduleDrain(Long eventId) {
+        if (drainingEventIds.add(eventId)) {
+            try {
+                consumerExecutor.execute(() -> drain(eventId));
+            } catch (RejectedExecutionException e) {
+                drainingEventIds.remove(eventId);
+            }
+        }
+    }
+
+    /** 이벤트별 잠금을 잡은 경우에만 대기열을 비울 때까지 일괄 처리 */
+    private void drain(Long eventId) {
+        String lockKey = LOCK_KEY_PREFIX + eventId;
+        String owner = UUID.randomUUID().toString();
+        Duration lockTtl = waitingRoomProperties.getConsumerLockTtl();
+
+        try {
+            if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(lockKey, owner, lockTtl))) {
+                return;
+            }
+
+            try {
+                List<String> batch;
+                while ((batch = stringRedisTemplate.opsForList()
+                        .leftPop(QUEUE_KEY_PREFIX + eventId, waitingRoomProperties.getBatchSize())) != null
+                        && !batch.isEmpty()) {
+                    process(eventId, batch);
+
+                    Long renewed = stringRedisTemplate.execute(RENEW_LOCK_SCRIPT, List.of(lockKey),
+                            owner, String.valueOf(lockTtl.toMillis()));
+                    if (renewed == null || renewed == 0) {
+                        log.warn("이벤트 {} 대기열 소비자 잠금을 잃었습니다.", eventId);
+                        return;
+                    }
+                }
+            } finally {
+                stringRedisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(lockKey), owner);
+            }
+        } catch (Exception e) {
+            log.error("이벤트 {} 대기열 소비 실패: {}", eventId, e.getMessage());
+        } finally {
+            drainingEventIds.remove(eventId);
+        }
+    }
+
+    private void process(Long eventId, List<String> ticketIds) {
+        LocalDateTime expiredBefore = LocalDateTime.now().minus(waitingRoomProperties.getPendingTimeout());
+        List<EventApplicationTicket> batch = new ArrayList<>();
+        Set<String> studentIds = new LinkedHashSet<>();
+
+        for (String ticketId : ticketIds) {
+            EventApplicationTicket ticket = findTicket(ticketId);
+            if (ticket == null || ticket.isProcessed()) {
+                continue;
+            }
+            if (ticket.getRequestedAt().isBefore(expiredBefore)) {
+                complete(ticket, EventApplicationStatus.REJECTED, "대기 시간이 초과되었습니다. 다시 신청해주세요.", null);
+                continue;
+            }
+            if (!studentIds.add(ticket.getStudentId())) {
+                complete(ticket, EventApplicationStatus.REJECTED, "이미 대기열에 등록된 신청입니다.", null);
+                continue;
+            }
+            batch.add(ticket);
+        }
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            applyResult(batch, eventParticipantService.createEventParticipantBatch(eventId, new ArrayList<>(studentIds)));
+        } catch (Exception e) {
+            log.warn("이벤트 {} 대기열 일괄 처리 실패, 건별 처리로 전환합니다: {}", eventId, e.getMessage());
+            batch.forEach(ticket -> processOne(eventId, ticket));
+        }
+    }
+
+    /** 일괄 저장 실패 시 한 건씩 별도 트랜잭션으로 재시도 (한 건의 오류가 배치 전체를 거절하지 않도록) */
+    private void processOne(Long eventId, EventApplicationTicket ticket) {
+        try {
+            applyResult(List.of(ticket),
+                    eventParticipantService.createEventParticipantBatch(eventId, List.of(ticket.getStudentId())));
+        } catch (Exception e) {
+            log.error("이벤트 {} 대기열 신청 처리 실패: 학번={}, {}", eventId, ticket.getStudentId(), e.getMessage());
+            complete(ticket, EventApplicationStatus.REJECTED, "신청 처리 중 오류가 발생했습니다.", null);
+        }
+    }
+
+    private void applyResult(List<EventApplicationTicket> batch, CreateEventParticipantBatchResult result) {
+        for (EventApplicationTicket ticket : batch) {
+            EventParticipantInfo participantInfo = result.getAccepted().get(ticket.getStudentId());
+            if (participantInfo != null) {
+                complete(ticket, EventApplicationStatus.APPROVED, "이벤트 참가 신청이 완료되었습니다.", participantInfo);
+            } else {
+                complete(ticket, EventApplicationStatus.REJECTED, result.getRejected().get(ticket.getStudentId()), null);
+            }
+        }
+    }
+
+    private void complete(EventApplicationTicket ticket, EventApplicationStatus status, String message,
+                          EventParticipantInfo participantInfo) {
+        saveTicket(ticket.toBuilder()
+                .status(status)
+                .message(message)
+                .participantInfo(participantInfo)
+                .processedAt(LocalDateTime.now())
+                .build(), waitingRoomProperties.getTicketRetention());
+    }
+
+    private void saveTicket(EventApplicationTicket ticket, Duration ttl) {
+        try {
+            stringRedisTemplate.opsForValue().set(TICKET_KEY_PREFIX + ticket.getTicketId(),
+                    objectMapper.writeValueAsString(ticket), ttl);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("티켓 저장에 실패했습니다: " + ticket.getTicketId(), e);
+        }
+    }
+
+    private EventApplicationTicket findTicket(String ticketId) {
+        String value = stringRedisTemplate.opsForValue().get(TICKET_KEY_PREFIX + ticketId);
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            return objectMapper.readValue(value, EventApplicationTicket.class);
+        } catch (JsonProcessingException e) {
+            log.warn("티켓을 읽을 수 없습니다: {}", ticketId);
+            return null;
+        }
+    }
+
+}
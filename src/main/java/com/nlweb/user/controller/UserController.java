@@ -7,18 +7,25 @@ import com.nlweb.common.enums.UserSessionType;
 import com.nlweb.common.security.CustomUserDetails;
 import com.nlweb.user.service.UserService;
 import com.nlweb.common.validation.groups.ValidationGroups;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @Tag(name = "사용자 API", description = "사용자 정보 조회/수정")
@@ -30,16 +37,50 @@ import java.util.List;
 public class UserController {
 
     private final UserService userService;
+    private final ObjectMapper objectMapper;
 
-    /** 활성 사용자 목록 조회 */
-    @Operation(summary = "활성 사용자 목록", description = "활성화된 모든 사용자 목록 조회")
+    /** 사용자 목록 조회 (커서 기반 페이지네이션) */
+    @Operation(summary = "사용자 목록", description = "상태별 사용자 목록을 기수/학번 순으로 커서 기반 페이지 조회")
     @GetMapping
-    public ResponseEntity<ApiResponse<List<UserInfo>>> getActiveUsers(
+    @PreAuthorize("#status == T(com.nlweb.common.enums.UserStatus).ACTIVE or hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<CursorPageResponse<UserInfo>>> getUsers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") @Min(1) @Max(200) int size,
+            @RequestParam(defaultValue = "ACTIVE") UserStatus status,
             @AuthenticationPrincipal CustomUserDetails principal) {
-        List<UserInfo> response = userService.getActiveUsers(principal.isAdmin());
+
+        CursorPageResponse<UserInfo> response = userService.getUsers(status, cursor, size, principal.isAdmin());
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    /** 사용자 목록 스트리밍 조회 (NDJSON) */
+    @Operation(summary = "사용자 목록 스트리밍", description = "상태별 전체 사용자 목록을 한 줄에 한 명씩 NDJSON으로 전송")
+    @GetMapping(value = "/stream", produces = "application/x-ndjson")
+    @PreAuthorize("#status == T(com.nlweb.common.enums.UserStatus).ACTIVE or hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> streamUsers(
+            @RequestParam(defaultValue = "ACTIVE") UserStatus status,
+            @AuthenticationPrincipal CustomUserDetails principal) {
+
+        boolean includePrivateInfo = principal.isAdmin();
+
+        StreamingResponseBody body = outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            userService.streamUsers(status, includePrivateInfo, user -> {
+                try {
+                    writer.write(objectMapper.writeValueAsString(user));
+                    writer.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
     /** 사용자 생성 */
     @Operation(summary = "사용자 생성", description = "새로운 사용자 생성")
     @PostMapping
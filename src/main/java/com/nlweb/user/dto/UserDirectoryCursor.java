@@ -0,0 +1,27 @@
+package com.nlweb.user.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/** 사용자 목록 키셋 페이지네이션 커서 (batch, studentId) */
+public record UserDirectoryCursor(Integer batch, String studentId) {
+
+    public static UserDirectoryCursor from(UserSnapshot user) {
+        return new UserDirectoryCursor(user.batch(), user.studentId());
+    }
+
+    public String encode() {
+        String raw = batch + ":" + studentId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static UserDirectoryCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            return new UserDirectoryCursor(Integer.parseInt(raw.substring(0, separator)), raw.substring(separator + 1));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+    }
+}
@@ -2,12 +2,16 @@ package com.nlweb.user.dto;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.nlweb.user.entity.User;
-import lombok.Data;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class UserInfo {
 
@@ -26,6 +30,8 @@ public class UserInfo {
 
     @Data
     @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
     @JsonInclude(JsonInclude.Include.NON_NULL)
     public static class AdminInfo {
 
@@ -48,6 +54,19 @@ public class UserInfo {
                     .build();
         }
 
+        public static AdminInfo fromSnapshot(UserSnapshot user) {
+            if (!user.hasAdminInfo()) {
+                return null;
+            }
+            return AdminInfo.builder()
+                    .role(user.adminRole())
+                    .appointedBy(user.adminAppointedBy())
+                    .appointmentReason(user.adminAppointmentReason())
+                    .createdAt(user.adminCreatedAt() != null ? user.adminCreatedAt().toString() : null)
+                    .updatedAt(user.adminUpdatedAt() != null ? user.adminUpdatedAt().toString() : null)
+                    .build();
+        }
+
     }
 
     public static UserInfo fromEntity(User user, boolean includePrivateInfo) {
@@ -67,4 +86,21 @@ public class UserInfo {
                 .build();
     }
 
+    public static UserInfo fromSnapshot(UserSnapshot user, boolean includePrivateInfo) {
+        return UserInfo.builder()
+                .studentId(includePrivateInfo ? user.studentId() : null)
+                .username(user.username())
+                .batch(user.batch())
+                .session(user.session().toString())
+                .phone(includePrivateInfo ? user.phone() : null)
+                .email(user.email())
+                .status(user.status().toString())
+                .isVocalable(user.isVocalable())
+                .isAdmin(user.isAdmin())
+                .adminInfo(AdminInfo.fromSnapshot(user))
+                .lastLogin(includePrivateInfo ? user.lastLogin() : null)
+                .createdAt(includePrivateInfo ? user.createdAt() : null)
+                .build();
+    }
+
 }
@@ -0,0 +1,66 @@
+package com.nlweb.user.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.nlweb.admin.entity.Admin;
+import com.nlweb.common.enums.UserSessionType;
+import com.nlweb.common.enums.UserStatus;
+import com.nlweb.user.entity.User;
+import java.time.LocalDateTime;
+
+/** 캐시 저장용 사용자 스냅샷 (JPA 엔티티와 분리된 불변 값) */
+public record UserSnapshot(
+        Long id,
+        String studentId,
+        String username,
+        Integer batch,
+        UserSessionType session,
+        String phone,
+        String email,
+        UserStatus status,
+        Boolean isVocalable,
+        Boolean isAdmin,
+        String adminRole,
+        String adminAppointedBy,
+        String adminAppointmentReason,
+        LocalDateTime adminCreatedAt,
+        LocalDateTime adminUpdatedAt,
+        LocalDateTime lastLogin,
+        LocalDateTime createdAt,
+        Long version
+) {
+
+    public static UserSnapshot from(User user) {
+        Admin admin = user.getAdmin();
+        return new UserSnapshot(
+                user.getId(),
+                user.getStudentId(),
+                user.getUsername(),
+                user.getBatch(),
+                user.getSession(),
+                user.getPhone(),
+                user.getEmail(),
+                user.getStatus(),
+                user.getIsVocalable(),
+                user.getIsAdmin(),
+                admin != null ? admin.getRole() : null,
+                admin != null ? admin.getAppointedBy() : null,
+                admin != null ? admin.getAppointmentReason() : null,
+                admin != null ? admin.getCreatedAt() : null,
+                admin != null ? admin.getUpdatedAt() : null,
+                user.getLastLogin(),
+                user.getCreatedAt(),
+                user.getVersion()
+        );
+    }
+
+    @JsonIgnore
+    public boolean isActive() {
+        return status == UserStatus.ACTIVE;
+    }
+
+    @JsonIgnore
+    public boolean hasAdminInfo() {
+        return Boolean.TRUE.equals(isAdmin) && adminRole != null;
+    }
+
+}
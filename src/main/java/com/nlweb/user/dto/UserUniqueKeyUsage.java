@@ -0,0 +1,12 @@
+package com.nlweb.user.dto;
+
+/** 학번/이메일/전화번호 사용 여부 (중복 확인 쿼리 결과) */
+public interface UserUniqueKeyUsage {
+
+    Boolean getStudentIdTaken();
+
+    Boolean getEmailTaken();
+
+    Boolean getPhoneTaken();
+
+}
@@ -0,0 +1,81 @@
+package com.nlweb.user.repository;
+
+import com.nlweb.common.enums.UserStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import java.sql.Array;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/** 사용자 일괄 변경 (JPA 영속성 컨텍스트를 거치지 않는 set 기반 UPDATE) */
+@Repository
+@RequiredArgsConstructor
+public class UserBulkRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 현재 상태가 from인 사용자만 to로 일괄 변경하고, 실제로 변경된 학번 목록을 반환
+     * (조회 이후 다른 요청이 상태를 바꾼 행은 조건에서 빠진다)
+     */
+    public List<String> updateStatuses(Collection<String> studentIds, UserStatus from, UserStatus to) {
+        if (studentIds.isEmpty()) {
+            return List.of();
+        }
+
+        return jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement(
+                    "UPDATE users SET status = ?, updated_at = now(), version = version + 1 " +
+                    "WHERE student_id = ANY(?) AND status = ? " +
+                    "RETURNING student_id");
+            Array studentIdArray = connection.createArrayOf("varchar", studentIds.toArray());
+            statement.setString(1, to.name());
+            statement.setArray(2, studentIdArray);
+            statement.setString(3, from.name());
+            return statement;
+        }, (rs, rowNum) -> rs.getString("student_id"));
+    }
+
+    /**
+     * 마지막 로그인 시각 일괄 반영 (버전 증가 없이 last_login 컬럼만 갱신)
+     * 이미 더 최근 값이 기록된 행은 건너뛰며, 갱신된 행 수를 반환
+     */
+    public int updateLastLogins(Map<String, LocalDateTime> lastLogins) {
+        if (lastLogins.isEmpty()) {
+            return 0;
+        }
+
+        StringBuilder values = new StringBuilder();
+        List<Object> args = new ArrayList<>(lastLogins.size() * 2);
+        for (Map.Entry<String, LocalDateTime> entry : lastLogins.entrySet()) {
+            if (!values.isEmpty()) {
+                values.append(", ");
+            }
+            values.append("(CAST(? AS varchar), CAST(? AS timestamp))");
+            args.add(entry.getKey());
+            args.add(entry.getValue());
+        }
+
+        return jdbcTemplate.update(
+                "UPDATE users AS u SET last_login = v.last_login " +
+                "FROM (VALUES " + values + ") AS v(student_id, last_login) " +
+                "WHERE u.student_id = v.student_id " +
+                "AND (u.last_login IS NULL OR u.last_login < v.last_login)",
+                args.toArray());
+    }
+
+    /** 비밀번호 해시 교체 (저장된 해시가 기대값과 같을 때만, 버전 증가 없음, 읽기 전용 로그인 트랜잭션과 분리) */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean updatePasswordHash(String studentId, String expectedHash, String newHash) {
+        return jdbcTemplate.update(
+                "UPDATE users SET password = ? WHERE student_id = ? AND password = ?",
+                newHash, studentId, expectedHash) > 0;
+    }
+
+}
@@ -1,21 +1,36 @@
 package com.nlweb.user.repository;
 
+import com.nlweb.common.dto.EstimatedPage;
+import com.nlweb.user.dto.UserSnapshot;
+import com.nlweb.user.dto.UserUniqueKeyUsage;
 import com.nlweb.user.entity.User;
 import com.nlweb.common.enums.UserSessionType;
 import com.nlweb.common.enums.UserStatus;
+import com.nlweb.common.util.SearchPatterns;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    /** 스냅샷 프로젝션 (엔티티/프록시 생성 없이 필요한 컬럼만 조회) */
+    String SNAPSHOT_SELECT = "SELECT new com.nlweb.user.dto.UserSnapshot(" +
+            "u.id, u.studentId, u.username, u.batch, u.session, u.phone, u.email, u.status, u.isVocalable, u.isAdmin, " +
+            "a.role, a.appointedBy, a.appointmentReason, a.createdAt, a.updatedAt, u.lastLogin, u.createdAt, u.version) " +
+            "FROM User u LEFT JOIN u.admin a ";
+
     // ========== 기본 조회 ==========
 
     Optional<User> findByStudentId(String studentId);
@@ -35,6 +50,48 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     List<User> findByStatus(UserStatus status);
 
+    // ========== 스냅샷 조회 (읽기 전용 경로) ==========
+
+    @Query(SNAPSHOT_SELECT + "WHERE u.id = :id")
+    Optional<UserSnapshot> findSnapshotById(@Param("id") Long id);
+
+    @Query(SNAPSHOT_SELECT + "WHERE u.studentId = :studentId")
+    Optional<UserSnapshot> findSnapshotByStudentId(@Param("studentId") String studentId);
+
+    @Query(SNAPSHOT_SELECT + "WHERE u.email = :email")
+    Optional<UserSnapshot> findSnapshotByEmail(@Param("email") String email);
+
+    @Query(SNAPSHOT_SELECT + "WHERE u.status = :status")
+    List<UserSnapshot> findSnapshotsByStatus(@Param("status") UserStatus status);
+
+    @Query(SNAPSHOT_SELECT + "WHERE u.studentId IN :studentIds")
+    List<UserSnapshot> findSnapshotsByStudentIdIn(@Param("studentIds") Collection<String> studentIds);
+
+    @Query(SNAPSHOT_SELECT + "WHERE u.session = :session AND u.status = :status")
+    List<UserSnapshot> findSnapshotsBySessionAndStatus(@Param("session") UserSessionType session,
+                                                       @Param("status") UserStatus status);
+
+    @Query(SNAPSHOT_SELECT + "WHERE u.batch = :batch AND u.status = :status ORDER BY u.studentId")
+    List<UserSnapshot> findSnapshotsByBatchAndStatus(@Param("batch") Integer batch,
+                                                     @Param("status") UserStatus status);
+
+    /** 상태별 사용자 첫 페이지 조회 (batch, studentId 순) */
+    @Query(SNAPSHOT_SELECT + "WHERE u.status = :status ORDER BY u.batch, u.studentId")
+    List<UserSnapshot> findFirstSnapshotPageByStatus(@Param("status") UserStatus status, Pageable limit);
+
+    /** 상태별 사용자 다음 페이지 조회 (키셋: (batch, studentId) 이후) */
+    @Query(SNAPSHOT_SELECT + "WHERE u.status = :status " +
+            "AND (u.batch, u.studentId) > (:batch, :studentId) ORDER BY u.batch, u.studentId")
+    List<UserSnapshot> findSnapshotPageByStatusAfter(@Param("status") UserStatus status,
+                                                     @Param("batch") Integer batch,
+                                                     @Param("studentId") String studentId,
+                                                     Pageable limit);
+
+    /** 상태별 사용자 스트리밍 조회 (커서 기반, 트랜잭션 안에서 소비, 영속성 컨텍스트에 쌓이지 않음) */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(SNAPSHOT_SELECT + "WHERE u.status = :status ORDER BY u.batch, u.studentId")
+    Stream<UserSnapshot> streamSnapshotsByStatus(@Param("status") UserStatus status);
+
     Page<User> findByStatus(UserStatus status, Pageable pageable);
 
     List<User> findByStatusOrderByCreatedAtAsc(UserStatus status);
@@ -93,11 +150,73 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     /**
      * 복합 검색 (학번, 이름, 이메일)
+     * <p>
+     * 3글자 이상은 pg_trgm 인덱스 부분 일치, 미만은 접두사(이름/이름에서 성을 뺀 부분/학번) 일치로 검색한다.
+     * 결과는 정확 일치 → 접두사 일치 → 유사도 순으로 정렬되며 pageable의 정렬 조건은 무시된다.
+     * 전체 건수는 필요할 때만 세고, {@link SearchPatterns#COUNT_LIMIT}건을 넘으면 집계를 멈추고 하한값으로 표시한다.
      */
-    @Query("SELECT u FROM User u WHERE (u.studentId LIKE %:keyword% OR u.username LIKE %:keyword% OR u.email LIKE %:keyword%) AND u.status = :status")
-    Page<User> searchUsers(@Param("keyword") String keyword,
-                           @Param("status") UserStatus status,
-                           Pageable pageable);
+    default EstimatedPage<User> searchUsers(String keyword, UserStatus status, Pageable pageable) {
+        String normalized = SearchPatterns.normalize(keyword);
+        String prefix = SearchPatterns.prefix(normalized);
+
+        if (SearchPatterns.isTrigramSearchable(normalized)) {
+            String contains = SearchPatterns.contains(normalized);
+            List<User> content = searchUsersByTrigram(normalized, contains, prefix, status.name(),
+                    pageable.getPageSize(), pageable.getOffset());
+            return EstimatedPage.of(content, pageable,
+                    () -> countUsersByTrigram(contains, status.name(), SearchPatterns.COUNT_LIMIT + 1), SearchPatterns.COUNT_LIMIT);
+        }
+
+        List<User> content = searchUsersByPrefix(normalized, prefix, status.name(),
+                pageable.getPageSize(), pageable.getOffset());
+        return EstimatedPage.of(content, pageable,
+                () -> countUsersByPrefix(prefix, status.name(), SearchPatterns.COUNT_LIMIT + 1), SearchPatterns.COUNT_LIMIT);
+    }
+
+    @Query(value = "SELECT u.* FROM users u " +
+            "WHERE u.status = :status " +
+            "AND (u.username ILIKE :contains OR u.student_id LIKE :contains OR lower(u.email) LIKE lower(:contains)) " +
+            "ORDER BY CASE WHEN u.username = :keyword OR u.student_id = :keyword THEN 0 " +
+            "              WHEN u.username ILIKE :prefix OR u.student_id LIKE :prefix THEN 1 ELSE 2 END, " +
+            "         greatest(similarity(u.username, :keyword), similarity(u.student_id, :keyword), " +
+            "                  similarity(lower(u.email), lower(:keyword))) DESC, " +
+            "         u.batch, u.student_id " +
+            "LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<User> searchUsersByTrigram(@Param("keyword") String keyword,
+                                    @Param("contains") String contains,
+                                    @Param("prefix") String prefix,
+                                    @Param("status") String status,
+                                    @Param("limit") int limit,
+                                    @Param("offset") long offset);
+
+    @Query(value = "SELECT count(*) FROM (SELECT 1 FROM users u " +
+            "WHERE u.status = :status " +
+            "AND (u.username ILIKE :contains OR u.student_id LIKE :contains OR lower(u.email) LIKE lower(:contains)) " +
+            "LIMIT :countLimit) matched", nativeQuery = true)
+    long countUsersByTrigram(@Param("contains") String contains,
+                             @Param("status") String status,
+                             @Param("countLimit") int countLimit);
+
+    @Query(value = "SELECT u.* FROM users u " +
+            "WHERE u.status = :status " +
+            "AND (u.username LIKE :prefix OR substr(u.username, 2) LIKE :prefix OR u.student_id LIKE :prefix) " +
+            "ORDER BY CASE WHEN u.username = :keyword OR u.student_id = :keyword THEN 0 " +
+            "              WHEN u.username LIKE :prefix OR u.student_id LIKE :prefix THEN 1 ELSE 2 END, " +
+            "         u.batch, u.student_id " +
+            "LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<User> searchUsersByPrefix(@Param("keyword") String keyword,
+                                   @Param("prefix") String prefix,
+                                   @Param("status") String status,
+                                   @Param("limit") int limit,
+                                   @Param("offset") long offset);
+
+    @Query(value = "SELECT count(*) FROM (SELECT 1 FROM users u " +
+            "WHERE u.status = :status " +
+            "AND (u.username LIKE :prefix OR substr(u.username, 2) LIKE :prefix OR u.student_id LIKE :prefix) " +
+            "LIMIT :countLimit) matched", nativeQuery = true)
+    long countUsersByPrefix(@Param("prefix") String prefix,
+                            @Param("status") String status,
+                            @Param("countLimit") int countLimit);
 
     // ========== 중복 확인 ==========
 
@@ -115,4 +234,18 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * 전화번호 중복 확인
      */
     boolean existsByPhone(String phone);
+
+    /**
+     * 학번/이메일/전화번호 중복 일괄 확인 (세 유니크 인덱스를 한 번의 쿼리로 조회, null인 항목은 확인하지 않음)
+     */
+    @Query(value = "SELECT COALESCE(bool_or(u.student_id = CAST(:studentId AS varchar)), false) AS \"studentIdTaken\", " +
+            "COALESCE(bool_or(u.email = CAST(:email AS varchar)), false) AS \"emailTaken\", " +
+            "COALESCE(bool_or(u.phone = CAST(:phone AS varchar)), false) AS \"phoneTaken\" " +
+            "FROM users u " +
+            "WHERE u.student_id = CAST(:studentId AS varchar) " +
+            "OR u.email = CAST(:email AS varchar) " +
+            "OR u.phone = CAST(:phone AS varchar)", nativeQuery = true)
+    UserUniqueKeyUsage findUniqueKeyUsage(@Param("studentId") String studentId,
+                                          @Param("email") String email,
+                                          @Param("phone") String phone);
 }
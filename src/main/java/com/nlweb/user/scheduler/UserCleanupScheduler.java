@@ -1,5 +1,6 @@
 package com.nlweb.user.scheduler;
 
+import com.nlweb.user.service.LastLoginRecorder;
 import com.nlweb.user.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,11 +13,15 @@ import org.springframework.stereotype.Component;
 public class UserCleanupScheduler {
 
     private final UserService userService;
+    private final LastLoginRecorder lastLoginRecorder;
 
     @Scheduled(cron = "0 0 2 * * *")
     public void cleanupSoftDeletedUsers() {
         log.info("6개월 경과 소프트 삭제 사용자 영구 삭제 작업 시작");
 
+        // 대기 중인 마지막 로그인 시각을 먼저 반영해야 삭제 대상 판단이 정확함
+        lastLoginRecorder.flush();
+
         int deletedCount = userService.deleteUserHard();
 
         log.info("6개월 경과 소프트 삭제 사용자 영구 삭제 작업 완료 - 총 {}명 삭제", deletedCount);
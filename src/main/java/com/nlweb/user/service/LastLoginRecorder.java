@@ -0,0 +1,172 @@
+package com.nlweb.user.service;
+
+import com.nlweb.user.repository.UserBulkRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 마지막 로그인 시각 지연 기록
+ * <p>
+ * 로그인 시 엔티티를 저장하지 않고 학번별 최신 시각만 Redis 해시(user:last-login:pending, 학번 → epoch ms)에 기록해 두었다가,
+ * 주기적으로 한 번의 UPDATE ... FROM (VALUES ...)로 반영한다. (@Version 증가 및 행 전체 재기록 방지)
+ * 반영한 값과 같은 항목만 해시에서 지우므로 노드가 재시작돼도 기록이 사라지지 않고, 어느 노드가 반영해도 결과는 같다.
+ * Redis 기록에 실패한 값만 노드 메모리에 모아 두었다가 같은 주기에 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LastLoginRecorder {
+
+    private static final int FLUSH_BATCH_SIZE = 500;
+    private static final String KEY = "user:last-login:pending";
+
+    /** ARGV: 학번, epoch ms (기존 값보다 최신일 때만 기록) */
+    private static final RedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('HGET', KEYS[1], ARGV[1])
+            if current and tonumber(current) >= tonumber(ARGV[2]) then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    /** ARGV: (학번, epoch ms) 쌍 목록 (반영 이후 새로 기록된 값은 남김) / 반환: 제거 건수 */
+    private static final RedisScript<Long> ACKNOWLEDGE_SCRIPT = new DefaultRedisScript<>("""
+            local removed = 0
+            for i = 1, #ARGV, 2 do
+                if redis.call('HGET', KEYS[1], ARGV[i]) == ARGV[i + 1] then
+                    removed = removed + redis.call('HDEL', KEYS[1], ARGV[i])
+                end
+            end
+            return removed
+            """, Long.class);
+
+    private final UserBulkRepository userBulkRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /** Redis 기록에 실패한 로그인 시각 (다음 반영 주기에 DB로 직접 반영) */
+    private final ConcurrentHashMap<String, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    /** 로그인 시각 기록 (같은 사용자는 최신 값만 유지) */
+    public void record(String studentId) {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            stringRedisTemplate.execute(RECORD_SCRIPT, List.of(KEY), studentId, String.valueOf(toEpochMilli(now)));
+        } catch (Exception e) {
+            log.warn("마지막 로그인 시각 Redis 기록 실패, 노드 메모리에 보관: {} - {}", studentId, e.getMessage());
+            pending.merge(studentId, now, (previous, current) -> current.isAfter(previous) ? current : previous);
+        }
+    }
+
+    /** 대기 중인 로그인 시각을 DB에 반영 */
+    @Scheduled(fixedDelayString = "${nlweb.user.last-login-flush-interval-ms:10000}")
+    public synchronized void flush() {
+        flushLocal();
+
+        Map<Object, Object> recorded;
+        try {
+            recorded = stringRedisTemplate.opsForHash().entries(KEY);
+        } catch (Exception e) {
+            log.warn("마지막 로그인 시각 조회 실패, 다음 주기에 재시도: {}", e.getMessage());
+            return;
+        }
+
+        Map<String, String> batch = new HashMap<>();
+        for (Map.Entry<Object, Object> entry : recorded.entrySet()) {
+            batch.put(entry.getKey().toString(), entry.getValue().toString());
+
+            if (batch.size() >= FLUSH_BATCH_SIZE) {
+                writeRecorded(batch);
+                batch = new HashMap<>();
+            }
+        }
+        writeRecorded(batch);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    // ========================== Private Methods ==========================
+
+    /** Redis 기록에 실패해 메모리에 남은 값 반영 (실패하면 다시 보관) */
+    private void flushLocal() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<String, LocalDateTime> batch = new HashMap<>();
+        for (Map.Entry<String, LocalDateTime> entry : pending.entrySet()) {
+            // 꺼내는 사이 새로 기록된 값은 남겨 두고 다음 주기에 반영
+            if (pending.remove(entry.getKey(), entry.getValue())) {
+                batch.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        if (!write(batch)) {
+            batch.forEach((studentId, lastLogin) ->
+                    pending.merge(studentId, lastLogin, (previous, current) -> current.isAfter(previous) ? current : previous));
+        }
+    }
+
+    /** Redis에 기록된 값 반영 후, 반영한 값과 같은 항목만 해시에서 제거 (실패하면 해시에 남아 다음 주기에 재시도) */
+    private void writeRecorded(Map<String, String> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        Map<String, LocalDateTime> lastLogins = new HashMap<>();
+        batch.forEach((studentId, epochMilli) -> lastLogins.put(studentId,
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(epochMilli)), ZoneId.systemDefault())));
+
+        if (!write(lastLogins)) {
+            return;
+        }
+
+        List<String> args = new ArrayList<>(batch.size() * 2);
+        batch.forEach((studentId, epochMilli) -> {
+            args.add(studentId);
+            args.add(epochMilli);
+        });
+        try {
+            stringRedisTemplate.execute(ACKNOWLEDGE_SCRIPT, List.of(KEY), args.toArray());
+        } catch (Exception e) {
+            log.warn("마지막 로그인 시각 반영 완료 표시 실패, 다음 주기에 다시 반영: {}건 - {}", batch.size(), e.getMessage());
+        }
+    }
+
+    private boolean write(Map<String, LocalDateTime> batch) {
+        if (batch.isEmpty()) {
+            return true;
+        }
+
+        try {
+            int updated = userBulkRepository.updateLastLogins(batch);
+            log.debug("마지막 로그인 시각 반영: {}건 / {}건", updated, batch.size());
+            return true;
+        } catch (Exception e) {
+            log.warn("마지막 로그인 시각 반영 실패, 다음 주기에 재시도: {}건 - {}", batch.size(), e.getMessage());
+            return false;
+        }
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+}
@@ -0,0 +1,118 @@
+package com.nlweb.user.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nlweb.common.cache.CacheEvictions;
+import com.nlweb.config.properties.JwtProperties;
+import com.nlweb.config.properties.SecurityStampProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 사용자 보안 스탬프 (액세스 토큰 무효화 기준 시각)
+ * <p>
+ * 상태나 관리자 역할이 바뀌면 그 시각(초 단위)을 스탬프로 기록하고, 그보다 먼저 발급된 액세스 토큰은 거절한다.
+ * 스탬프는 사용자별 Redis 키(auth:security-stamp:{학번} → epoch 초)에 두고 노드별 로컬 캐시로 읽으며,
+ * 변경 시 pub/sub으로 다른 노드의 로컬 항목을 지운다. 키는 액세스 토큰 유효 시간이 지나면 만료되는데,
+ * 그때는 스탬프 이전에 발급된 토큰도 모두 만료된 뒤이므로 스탬프가 없는 사용자(0)와 같게 본다.
+ * 토큰 발급 시각(iat)이 초 단위이므로 변경과 같은 초에 발급된 토큰은 유효로 본다.
+ * 메시지 형식: {학번},{학번},...
+ */
+@Slf4j
+@Service
+public class SecurityStampService {
+
+    private static final String KEY_PREFIX = "auth:security-stamp:";
+    private static final String SEPARATOR = ",";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final SecurityStampProperties securityStampProperties;
+    private final JwtProperties jwtProperties;
+    private final CacheEvictions cacheEvictions;
+    private final Cache<String, Long> stamps;
+
+    public SecurityStampService(StringRedisTemplate stringRedisTemplate,
+                                RedisMessageListenerContainer redisMessageListenerContainer,
+                                SecurityStampProperties securityStampProperties,
+                                JwtProperties jwtProperties,
+                                CacheEvictions cacheEvictions) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.securityStampProperties = securityStampProperties;
+        this.jwtProperties = jwtProperties;
+        this.cacheEvictions = cacheEvictions;
+        this.stamps = Caffeine.newBuilder()
+                .expireAfterWrite(securityStampProperties.getLocalTtl())
+                .maximumSize(securityStampProperties.getMaximumSize())
+                .build();
+    }
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> stamps.invalidateAll(
+                        Arrays.asList(new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR))),
+                new ChannelTopic(securityStampProperties.getChannel()));
+    }
+
+    /** 현재 스탬프 (epoch 초, 로컬 캐시 적중 시 Redis 조회 없음) */
+    public long current(String studentId) {
+        return stamps.get(studentId, this::load);
+    }
+
+    /** 마지막 상태/역할 변경 이후(같은 초 포함) 발급된 토큰인지 확인 */
+    public boolean isIssuedAfterStamp(String studentId, Instant issuedAt) {
+        return issuedAt.getEpochSecond() >= current(studentId);
+    }
+
+    /** 스탬프 갱신 예약 (트랜잭션 커밋 후 반영, 해당 사용자의 기존 액세스 토큰 무효화) */
+    public void rotateAfterCommit(Collection<String> studentIds) {
+        if (studentIds.isEmpty()) {
+            return;
+        }
+
+        List<String> targets = List.copyOf(studentIds);
+        cacheEvictions.afterCommit(() -> rotate(targets));
+    }
+
+    // ========================== Private Methods ==========================
+
+    private long load(String studentId) {
+        String value = stringRedisTemplate.opsForValue().get(KEY_PREFIX + studentId);
+        return value != null ? Long.parseLong(value) : 0L;
+    }
+
+    private void rotate(List<String> studentIds) {
+        byte[] now = String.valueOf(Instant.now().getEpochSecond()).getBytes(StandardCharsets.UTF_8);
+        Expiration ttl = Expiration.milliseconds(jwtProperties.getAccessTokenValidity());
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String studentId : studentIds) {
+                connection.stringCommands().set((KEY_PREFIX + studentId).getBytes(StandardCharsets.UTF_8), now,
+                        ttl, RedisStringCommands.SetOption.upsert());
+            }
+            return null;
+        });
+        stamps.invalidateAll(studentIds);
+
+        try {
+            stringRedisTemplate.convertAndSend(securityStampProperties.getChannel(), String.join(SEPARATOR, studentIds));
+        } catch (Exception e) {
+            log.warn("보안 스탬프 변경 전파 실패: {}", e.getMessage());
+        }
+        log.debug("보안 스탬프 갱신: {}명", studentIds.size());
+    }
+
+}
@@ -1,15 +1,18 @@
 package com.nlweb.user.service;
 
+import com.nlweb.common.cache.CacheEvictions;
 import com.nlweb.common.enums.UserSessionType;
 import com.nlweb.common.enums.UserStatus;
-import com.nlweb.user.entity.User;
+import com.nlweb.user.dto.UserSnapshot;
 import com.nlweb.user.repository.UserRepository;
 import lombok.*;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.interceptor.SimpleKey;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,90 +23,87 @@ import java.util.Optional;
 public class UserCacheService {
 
     private final UserRepository userRepository;
+    private final CacheEvictions cacheEvictions;
 
     @Cacheable(value = "users:active")
-    public List<User> getAllActiveUsers() {
-        return userRepository.findAll();
+    public List<UserSnapshot> getAllActiveUsers() {
+        return userRepository.findSnapshotsByStatus(UserStatus.ACTIVE);
     }
 
     @Cacheable(value = "users:pending")
-    public List<User> getAllPendingUsers() {
-        return userRepository.findByStatus(UserStatus.PENDING);
+    public List<UserSnapshot> getAllPendingUsers() {
+        return userRepository.findSnapshotsByStatus(UserStatus.PENDING);
     }
 
     @Cacheable(value = "user", key = "'id:' + #id")
-    public Optional<User> getUserById(Long id) {
-        return userRepository.findById(id);
+    public Optional<UserSnapshot> getUserById(Long id) {
+        return userRepository.findSnapshotById(id);
     }
 
     @Cacheable(value = "user", key = "'studentId:' + #studentId")
-    public Optional<User> getUserByStudentId(String studentId) {
-        return userRepository.findByStudentId(studentId);
+    public Optional<UserSnapshot> getUserByStudentId(String studentId) {
+        return userRepository.findSnapshotByStudentId(studentId);
     }
 
     @Cacheable(value = "user", key = "'email:' + #email")
-    public Optional<User> getUserByEmail(String email) {
-        return userRepository.findByEmail(email);
+    public Optional<UserSnapshot> getUserByEmail(String email) {
+        return userRepository.findSnapshotByEmail(email);
     }
 
-    @Cacheable(value = "user", key = "'students:' + #studentIds.hashCode()")
-    public List<User> getUsersByStudentIds(List<String> studentIds) {
-        return userRepository.findAllByStudentIdIn(studentIds);
+    @Cacheable(value = "users:session", key = "#session")
+    public List<UserSnapshot> getUsersBySession(UserSessionType session) {
+        return userRepository.findSnapshotsBySessionAndStatus(session, UserStatus.ACTIVE);
     }
 
-    @Cacheable(value = "user", key = "#session")
-    public List<User> getUsersBySession(UserSessionType session) {
-        return userRepository.findBySessionAndStatus(session, UserStatus.ACTIVE);
+    @Cacheable(value = "users:batch", key = "#batch")
+    public List<UserSnapshot> getUsersByBatch(Integer batch) {
+        return userRepository.findSnapshotsByBatchAndStatus(batch, UserStatus.ACTIVE);
     }
 
-    @Cacheable(value = "user", key = "#batch")
-    public List<User> getUsersByBatch(Integer batch) {
-        return userRepository.findByBatchAndStatusOrderByBatchAsc(batch, UserStatus.ACTIVE);
-    }
-
-    @Cacheable(value = "user", key = "'exists:id:' + #id")
+    @Cacheable(value = "user:exists", key = "'id:' + #id")
     public boolean isUserExistsById(Long id) {
         return userRepository.existsById(id);
     }
 
-    @Cacheable(value = "user", key = "'exists:studentId:' + #studentId")
+    @Cacheable(value = "user:exists", key = "'studentId:' + #studentId")
     public boolean isUserExistsByStudentId(String studentId) {
         return userRepository.existsByStudentId(studentId);
     }
 
-    @Cacheable(value = "user", key = "'exists:email:' + #email")
-    public boolean isUserExistsByEmail(String email) {
-        return userRepository.findByEmail(email).isPresent();
-    }
-
-    @Cacheable(value = "user", key = "'exists:phone:' + #phone")
-    public boolean isUserExistsByPhone(String phone) {
-        return userRepository.findByPhone(phone).isPresent();
-    }
-
-    @CacheEvict(value = {"user", "users:active", "users:pending"}, allEntries = true)
+    @CacheEvict(value = {
+            "user", "user:exists", "users:active", "users:pending", "users:session", "users:batch"
+    }, allEntries = true)
     public void evictAllUsersCache() {
         log.debug("모든 사용자 캐시 삭제");
     }
 
-    @CacheEvict(value = {"users:active"}, allEntries = true)
-    public void evictAllActiveUsersCache() {
-        log.debug("활성 사용자 캐시 삭제");
-    }
-
-    @CacheEvict(value = {"users:pending"}, allEntries = true)
-    public void evictAllPendingUsersCache() {
-        log.debug("대기 사용자 캐시 삭제");
-    }
-
-    @CacheEvict(value = {"user"}, key = "'id:' + #id")
-    public void evictUserCacheById(Long id) {
-        log.debug("사용자 캐시 삭제: Id = {}", id);
-    }
-
-    @CacheEvict(value = {"user"}, key = "'studentId:' + #studentId")
-    public void evictUserCacheByStudentId(String studentId) {
-        log.debug("사용자 캐시 삭제: studentId = {}", studentId);
+    /**
+     * 생성/삭제/상태·정보 변경된 사용자들의 단건 캐시("없음" 결과 포함)와 영향받는 목록 캐시 키만 무효화 (커밋 이후)
+     * users: 변경 전후 스냅샷 (이메일처럼 키가 바뀌는 변경은 이전 스냅샷도 함께 전달)
+     * changedStatuses: 변경 전후 상태 (생성이면 생성 시 상태, 삭제면 삭제 전 상태, 정보만 바뀌면 현재 상태)
+     */
+    public void evictUsersAfterChange(Collection<UserSnapshot> users, Collection<UserStatus> changedStatuses) {
+        cacheEvictions.afterCommit(() -> {
+            for (UserSnapshot user : users) {
+                cacheEvictions.evict("user", "id:" + user.id());
+                cacheEvictions.evict("user", "studentId:" + user.studentId());
+                cacheEvictions.evict("user", "email:" + user.email());
+                cacheEvictions.evict("user:exists", "id:" + user.id());
+                cacheEvictions.evict("user:exists", "studentId:" + user.studentId());
+            }
+
+            if (changedStatuses.contains(UserStatus.ACTIVE)) {
+                cacheEvictions.evict("users:active", SimpleKey.EMPTY);
+                users.stream().map(UserSnapshot::session).distinct().forEach(session -> cacheEvictions.evict("users:session", session));
+                users.stream().map(UserSnapshot::batch).distinct().forEach(batch -> cacheEvictions.evict("users:batch", batch));
+            }
+
+            if (changedStatuses.contains(UserStatus.PENDING)) {
+                cacheEvictions.evict("users:pending", SimpleKey.EMPTY);
+            }
+
+            log.debug("사용자 캐시 삭제: {}명, 상태 {}", users.size(), changedStatuses);
+        });
     }
 
 }
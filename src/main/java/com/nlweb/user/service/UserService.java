@@ -1,22 +1,28 @@
 package com.nlweb.user.service;
 
 import com.nlweb.admin.service.AdminCacheService;
+import com.nlweb.auth.service.PasswordHashingService;
 import com.nlweb.user.dto.*;
 import com.nlweb.user.entity.User;
 import com.nlweb.user.repository.UserRepository;
 import com.nlweb.common.enums.UserSessionType;
 import com.nlweb.common.enums.UserStatus;
 import com.nlweb.common.exception.user.UserNotFoundException;
-import com.nlweb.common.exception.user.DuplicateUserException;
+import com.nlweb.common.dto.CursorPageResponse;
+import com.nlweb.event.service.EventParticipantCacheService;
+import com.nlweb.event.service.EventSeatReservationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -27,37 +33,64 @@ public class UserService {
     private final UserCacheService userCacheService;
     private final UserRepository userRepository;
     private final AdminCacheService adminCacheService;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final UserUniquenessService userUniquenessService;
+    private final SecurityStampService securityStampService;
+    private final EventParticipantCacheService eventParticipantCacheService;
+    private final EventSeatReservationService eventSeatReservationService;
 
     /** 내 정보 조회 */
     public UserInfo getMyInfo(String studentId) {
-        User user = userCacheService.getUserByStudentId(studentId)
+        UserSnapshot user = userCacheService.getUserByStudentId(studentId)
                 .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다: " + studentId));
 
-        return UserInfo.fromEntity(user, true);
+        return UserInfo.fromSnapshot(user, true);
     }
 
     /** 학번으로 사용자 조회 */
     public UserInfo getUserInfo(String studentId, Boolean includePrivateInfo) {
-        User user = userCacheService.getUserByStudentId(studentId)
+        UserSnapshot user = userCacheService.getUserByStudentId(studentId)
                 .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다: " + studentId));
 
-        return UserInfo.fromEntity(user, includePrivateInfo);
+        return UserInfo.fromSnapshot(user, includePrivateInfo);
     }
 
     /** 활성 사용자 목록 조회 */
     public List<UserInfo> getActiveUsers(Boolean includePrivateInfo) {
         return userCacheService.getAllActiveUsers()
                 .stream()
-                .map(user -> UserInfo.fromEntity(user, includePrivateInfo))
+                .map(user -> UserInfo.fromSnapshot(user, includePrivateInfo))
                 .collect(Collectors.toList());
     }
 
+    /** 상태별 사용자 목록 조회 (키셋 페이지네이션, batch/studentId 순) */
+    public CursorPageResponse<UserInfo> getUsers(UserStatus status, String cursor, int size, Boolean includePrivateInfo) {
+        Pageable limit = PageRequest.ofSize(size + 1);
+
+        List<UserSnapshot> users;
+        if (cursor == null || cursor.isBlank()) {
+            users = userRepository.findFirstSnapshotPageByStatus(status, limit);
+        } else {
+            UserDirectoryCursor after = UserDirectoryCursor.decode(cursor);
+            users = userRepository.findSnapshotPageByStatusAfter(status, after.batch(), after.studentId(), limit);
+        }
+
+        return CursorPageResponse.of(users, size, user -> UserDirectoryCursor.from(user).encode())
+                .map(user -> UserInfo.fromSnapshot(user, includePrivateInfo));
+    }
+
+    /** 상태별 사용자 스트리밍 조회 (스냅샷 프로젝션이라 영속성 컨텍스트에 쌓이지 않아 메모리 사용량 일정 유지) */
+    public void streamUsers(UserStatus status, Boolean includePrivateInfo, Consumer<UserInfo> consumer) {
+        try (Stream<UserSnapshot> users = userRepository.streamSnapshotsByStatus(status)) {
+            users.forEach(user -> consumer.accept(UserInfo.fromSnapshot(user, includePrivateInfo)));
+        }
+    }
+
     /** 승인 대기 중인 사용자 목록 조회 */
     public List<UserInfo> getPendingUsers() {
         return userCacheService.getAllPendingUsers()
                 .stream()
-                .map(user -> UserInfo.fromEntity(user, true))
+                .map(user -> UserInfo.fromSnapshot(user, true))
                 .collect(Collectors.toList());
     }
 
@@ -65,7 +98,7 @@ public class UserService {
     public List<UserInfo> getUsersBySession(UserSessionType session, Boolean includePrivateInfo) {
         return userCacheService.getUsersBySession(session)
                 .stream()
-                .map(user -> UserInfo.fromEntity(user, includePrivateInfo))
+                .map(user -> UserInfo.fromSnapshot(user, includePrivateInfo))
                 .collect(Collectors.toList());
     }
 
@@ -73,7 +106,7 @@ public class UserService {
     public List<UserInfo> getUsersByBatch(int batch, Boolean includePrivateInfo) {
         return userCacheService.getUsersByBatch(batch)
                 .stream()
-                .map(user -> UserInfo.fromEntity(user, includePrivateInfo))
+                .map(user -> UserInfo.fromSnapshot(user, includePrivateInfo))
                 .collect(Collectors.toList());
     }
 
@@ -86,67 +119,78 @@ public class UserService {
     /** 사용자 생성 */
     @Transactional
     public CreateUserResponse createUser(CreateUserRequest request) {
-        // 학생 ID 중복 체크
-        if (userRepository.existsByStudentId(request.getStudentId())) {
-            throw new DuplicateUserException("Student ID already exists: " + request.getStudentId());
-        }
-
-        // 이메일 중복 체크
-        if (request.getEmail() != null && userRepository.existsByEmail(request.getEmail().trim().toLowerCase())) {
-            throw new DuplicateUserException("Email already exists: " + request.getEmail());
-        }
+        return CreateUserResponse.from(registerUser(request));
+    }
 
-        // 전화번호 중복 체크
-        if (request.getPhone() != null && userRepository.existsByPhone(request.getPhone().trim())) {
-            throw new DuplicateUserException("Phone number already exists: " + request.getPhone());
-        }
+    /** 사용자 생성 후 엔티티 반환 (회원가입 응답 구성용, 재조회 없음) */
+    @Transactional
+    public User registerUser(CreateUserRequest request) {
+        // 학번/이메일/전화번호 중복 일괄 확인
+        userUniquenessService.assertAvailable(request.getStudentId(), request.getEmail(), request.getPhone());
 
         // 사용자 엔티티 생성
         User user = User.builder()
                 .studentId(request.getStudentId())
                 .username(request.getUsername())
-                .password(passwordEncoder.encode(request.getPassword()))
-                .email(request.getEmail() != null ? request.getEmail().trim().toLowerCase() : null)
-                .phone(request.getPhone() != null ? request.getPhone().trim() : null)
+                .password(passwordHashingService.encode(request.getPassword()))
+                .email(UserUniquenessService.normalizeEmail(request.getEmail()))
+                .phone(UserUniquenessService.normalizePhone(request.getPhone()))
                 .batch(request.getBatch())
                 .session(request.getSession())
 //                .status(UserStatus.PENDING)
                 .status(UserStatus.ACTIVE) // 개발 중엔 바로 승인
                 .build();
 
-        // 사용자 저장
-        User savedUser = userRepository.save(user);
+        // 사용자 저장 (동시 가입 충돌은 DB 유니크 제약으로 판정)
+        User savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            throw userUniquenessService.translate(e);
+        }
+        // 가입 전 조회로 남은 "없음" 캐시 무효화
+        userCacheService.evictUsersAfterChange(List.of(UserSnapshot.from(savedUser)), List.of(savedUser.getStatus()));
         log.info("새로운 사용자 생성 완료: {}", savedUser.getStudentId());
 
-        return CreateUserResponse.from(savedUser);
+        return savedUser;
     }
 
     /** 사용자 정보 수정 */
     @Transactional
     public UpdateUserResponse updateUser(String studentId, UpdateUserRequest request) {
-        User user = userCacheService.getUserByStudentId(studentId)
-                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다: " + studentId));
+        User user = getUserEntity(studentId);
+        UserSnapshot before = UserSnapshot.from(user);
 
-        if (request.getEmail() != null && !request.getEmail().equals(user.getEmail())) {
-            if (userCacheService.isUserExistsByEmail(request.getEmail())) {
-                throw new DuplicateUserException("이미 사용 중인 이메일입니다.");
-            }
+        String email = UserUniquenessService.normalizeEmail(request.getEmail());
+        String phone = UserUniquenessService.normalizePhone(request.getPhone());
+        boolean emailChanged = email != null && !email.equals(user.getEmail());
+        boolean phoneChanged = phone != null && !phone.equals(user.getPhone());
 
-            user.setEmail(request.getEmail());
+        if (emailChanged || phoneChanged) {
+            userUniquenessService.assertAvailable(null, emailChanged ? email : null, phoneChanged ? phone : null);
         }
 
-        if (request.getPhone() != null && !request.getPhone().equals(user.getPhone())) {
-            if (userCacheService.isUserExistsByPhone(request.getPhone())) {
-                throw new DuplicateUserException("이미 사용 중인 전화번호입니다.");
-            }
+        if (emailChanged) {
+            user.setEmail(email);
+        }
 
-            user.setPhone(request.getPhone());
+        if (phoneChanged) {
+            user.setPhone(phone);
         }
 
-        User updatedUser = userRepository.save(user);
+        User updatedUser;
+        try {
+            updatedUser = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            throw userUniquenessService.translate(e);
+        }
 
-        userCacheService.evictUserCacheByStudentId(studentId);
-        userCacheService.evictAllActiveUsersCache();
+        // 이전/새 이메일 키를 모두 무효화 (새 이메일의 "없음" 결과 포함)
+        userCacheService.evictUsersAfterChange(List.of(before, UserSnapshot.from(updatedUser)), List.of(updatedUser.getStatus()));
+        eventParticipantCacheService.evictEventDetailsOfUsers(List.of(user.getId()));
+        if (phoneChanged && adminCacheService.isAdmin(studentId)) {
+            adminCacheService.refreshAfterCommit();
+        }
 
         log.info("사용자 정보 수정: {} ({})", user.getUsername(), studentId);
 
@@ -157,17 +201,16 @@ public class UserService {
     @Transactional
     public void changePassword(String studentId, ChangePasswordRequestInternal request) {
 
-        User user = userCacheService.getUserByStudentId(studentId)
-                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다: " + studentId));
+        User user = getUserEntity(studentId);
 
-        if (!passwordEncoder.matches(request.getCurrentPassword(), user.getPassword())) {
+        if (!passwordHashingService.matches(request.getCurrentPassword(), user.getPassword())) {
             throw new IllegalArgumentException("현재 비밀번호가 일치하지 않습니다.");
         }
 
-        user.changePassword(passwordEncoder.encode(request.getNewPassword()));
+        user.changePassword(passwordHashingService.encode(request.getNewPassword()));
         userRepository.save(user);
 
-        userCacheService.evictUserCacheByStudentId(studentId);
+        userCacheService.evictUsersAfterChange(List.of(UserSnapshot.from(user)), List.of());
 
         log.info("사용자 비밀번호 변경: {} ({})", user.getUsername(), studentId);
     }
@@ -177,8 +220,7 @@ public class UserService {
     public void setUserVocalable(String studentId, Boolean isVocalable, String modifiedBy) {
         assertAdmin(modifiedBy);
 
-        User user = userCacheService.getUserByStudentId(studentId)
-                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다: " + studentId));
+        User user = getUserEntity(studentId);
 
         if (user.getSession().equals(UserSessionType.VOCAL)) {
             throw new IllegalStateException("보컬 세션 사용자는 보걸 세션 허용 설정을 변경할 수 없습니다: " + studentId);
@@ -187,8 +229,8 @@ public class UserService {
         user.setIsVocalable(isVocalable);
         userRepository.save(user);
 
-        userCacheService.evictUserCacheByStudentId(studentId);
-        userCacheService.evictAllActiveUsersCache();
+        userCacheService.evictUsersAfterChange(List.of(UserSnapshot.from(user)), List.of(user.getStatus()));
+        eventParticipantCacheService.evictEventDetailsOfUsers(List.of(user.getId()));
 
         log.info("사용자 보걸 세션 허용 설정 변경: {} ({}) to {}", user.getUsername(), studentId, isVocalable);
     }
@@ -196,13 +238,15 @@ public class UserService {
     /** 사용자 소프트 삭제 (복구 가능) */
     @Transactional
     public DeleteUserResponse deleteUserSoft(String studentId, String deletedBy) {
-        User user = userCacheService.getUserByStudentId(studentId)
-                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다: " + studentId));
+        User user = getUserEntity(studentId);
+        UserStatus previousStatus = user.getStatus();
 
         user.setStatus(UserStatus.DELETED);
         userRepository.save(user);
 
-        userCacheService.evictUserCacheByStudentId(studentId);
+        userCacheService.evictUsersAfterChange(List.of(UserSnapshot.from(user)), List.of(previousStatus, UserStatus.DELETED));
+        eventParticipantCacheService.evictEventDetailsOfUsers(List.of(user.getId()));
+        securityStampService.rotateAfterCommit(List.of(studentId));
 
         log.info("사용자 소프트 삭제: {} ({}) by {}", user.getUsername(), studentId, deletedBy);
 
@@ -212,8 +256,7 @@ public class UserService {
     /** 사용자 복구 */
     @Transactional
     public UserInfo reviveUser(String studentId) {
-        User user = userCacheService.getUserByStudentId(studentId)
-                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다: " + studentId));
+        User user = getUserEntity(studentId);
 
         if (user.getStatus() != UserStatus.DELETED) {
             throw new IllegalStateException("소프트 삭제된 사용자만 복구할 수 있습니다: " + studentId);
@@ -222,8 +265,9 @@ public class UserService {
         user.setStatus(UserStatus.ACTIVE);
         userRepository.save(user);
 
-        userCacheService.evictUserCacheByStudentId(studentId);
-        userCacheService.evictAllActiveUsersCache();
+        userCacheService.evictUsersAfterChange(List.of(UserSnapshot.from(user)), List.of(UserStatus.DELETED, UserStatus.ACTIVE));
+        eventParticipantCacheService.evictEventDetailsOfUsers(List.of(user.getId()));
+        securityStampService.rotateAfterCommit(List.of(studentId));
 
         log.info("사용자 복구: {} ({})", user.getUsername(), studentId);
 
@@ -239,7 +283,14 @@ public class UserService {
 
         for (User user : softDeletedUsers) {
             if (user.canBeHardDeleted()) {
+                UserSnapshot snapshot = UserSnapshot.from(user);
+
+                // 참가 행은 DB cascade로 지워지므로 좌석 반납과 명단/캐시 정리를 따로 반영
+                eventParticipantCacheService.getEventIdsByUserId(user.getId()).forEach(eventSeatReservationService::release);
+                eventParticipantCacheService.evictDeletedUser(user.getId());
+
                 userRepository.delete(user);
+                userCacheService.evictUsersAfterChange(List.of(snapshot), List.of(UserStatus.DELETED));
                 count++;
                 log.info("사용자 영구 삭제: {} ({})", user.getUsername(), user.getStudentId());
             }
@@ -253,15 +304,13 @@ public class UserService {
     public void approveUser(String studentId, String approvedBy) {
         assertAdmin(approvedBy);
 
-        User user = userCacheService.getUserByStudentId(studentId)
-                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다: " + studentId));
+        User user = getUserEntity(studentId);
+        UserStatus previousStatus = user.getStatus();
 
         user.setStatus(UserStatus.ACTIVE);
         userRepository.save(user);
 
-        userCacheService.evictUserCacheByStudentId(studentId);
-        userCacheService.evictAllActiveUsersCache();
-        userCacheService.evictAllPendingUsersCache();
+        userCacheService.evictUsersAfterChange(List.of(UserSnapshot.from(user)), List.of(previousStatus, UserStatus.ACTIVE));
 
         log.info("사용자 승인: {} ({}) by {}", user.getUsername(), studentId, approvedBy);
     }
@@ -271,14 +320,13 @@ public class UserService {
     public void rejectUser(String studentId, String rejectedBy) {
         assertAdmin(rejectedBy);
 
-        User user = userCacheService.getUserByStudentId(studentId)
-                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다: " + studentId));
+        User user = getUserEntity(studentId);
+        UserStatus previousStatus = user.getStatus();
 
         user.setStatus(UserStatus.REJECTED);
         userRepository.save(user);
 
-        userCacheService.evictUserCacheByStudentId(studentId);
-        userCacheService.evictAllPendingUsersCache();
+        userCacheService.evictUsersAfterChange(List.of(UserSnapshot.from(user)), List.of(previousStatus, UserStatus.REJECTED));
 
         log.info("사용자 거부: {} ({}) by {}", user.getUsername(), studentId, rejectedBy);
     }
@@ -302,6 +350,12 @@ public class UserService {
                 .build();
     }
 
+    /** 수정용 사용자 엔티티 조회 (캐시 스냅샷이 아닌 영속 엔티티) */
+    private User getUserEntity(String studentId) {
+        return userRepository.findByStudentId(studentId)
+                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다: " + studentId));
+    }
+
     /** 관리자 권한 확인 */
     private void assertAdmin(String studentId) {
         if (studentId == null || !adminCacheService.isAdmin(studentId)) {
@@ -0,0 +1,72 @@
+package com.nlweb.user.service;
+
+import com.nlweb.common.exception.user.DuplicateUserException;
+import com.nlweb.user.dto.UserUniqueKeyUsage;
+import com.nlweb.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.Locale;
+
+/**
+ * 사용자 유니크 키(학번/이메일/전화번호) 중복 확인
+ * <p>
+ * 세 키를 한 번의 인덱스 조회로 확인해 사용자에게 알려 주는 사전 검사이며,
+ * 동시에 들어온 가입 요청 간의 최종 판정은 DB 유니크 제약이 맡는다. ({@link #translate})
+ * 존재 여부는 캐시하지 않는다. (가입 직후 오래된 "없음" 캐시로 중복 검사를 통과하는 문제 방지)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class UserUniquenessService {
+
+    private final UserRepository userRepository;
+
+    /** 이메일 정규화 (저장 형식과 동일) */
+    public static String normalizeEmail(String email) {
+        return email != null ? email.trim().toLowerCase(Locale.ROOT) : null;
+    }
+
+    /** 전화번호 정규화 (저장 형식과 동일) */
+    public static String normalizePhone(String phone) {
+        return phone != null ? phone.trim() : null;
+    }
+
+    /** 사용 중인 키가 있으면 DuplicateUserException (null인 항목은 확인하지 않음) */
+    public void assertAvailable(String studentId, String email, String phone) {
+        UserUniqueKeyUsage usage = userRepository.findUniqueKeyUsage(studentId, normalizeEmail(email), normalizePhone(phone));
+
+        if (Boolean.TRUE.equals(usage.getStudentIdTaken())) {
+            throw new DuplicateUserException("이미 등록된 학번입니다: " + studentId);
+        }
+
+        if (Boolean.TRUE.equals(usage.getEmailTaken())) {
+            throw new DuplicateUserException("이미 사용 중인 이메일입니다.");
+        }
+
+        if (Boolean.TRUE.equals(usage.getPhoneTaken())) {
+            throw new DuplicateUserException("이미 사용 중인 전화번호입니다.");
+        }
+    }
+
+    /** 유니크 제약 위반을 중복 예외로 변환 (사전 검사 이후 동시 가입으로 충돌한 경우) */
+    public DuplicateUserException translate(DataIntegrityViolationException e) {
+        String message = String.valueOf(e.getMostSpecificCause().getMessage());
+        log.warn("사용자 유니크 제약 위반: {}", message);
+
+        if (message.contains("(student_id)") || message.contains("users_student_id_key")) {
+            return new DuplicateUserException("이미 등록된 학번입니다.");
+        }
+        if (message.contains("(email)") || message.contains("users_email_key")) {
+            return new DuplicateUserException("이미 사용 중인 이메일입니다.");
+        }
+        if (message.contains("(phone)") || message.contains("users_phone_key")) {
+            return new DuplicateUserException("이미 사용 중인 전화번호입니다.");
+        }
+        return new DuplicateUserException("이미 등록된 사용자 정보입니다.");
+    }
+
+}
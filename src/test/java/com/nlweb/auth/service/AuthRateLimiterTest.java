@@ -0,0 +1,127 @@
+package com.nlweb.auth.service;
+
+import com.nlweb.common.exception.auth.TooManyRequestsException;
+import com.nlweb.config.properties.RateLimitProperties;
+import com.nlweb.support.RedisTestSupport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AuthRateLimiterTest extends RedisTestSupport {
+
+    private static final String IP = "10.0.0.1";
+    private static final String IP_KEY = "auth:rate:login:ip:" + IP;
+
+    private final RateLimitProperties rateLimitProperties = new RateLimitProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private AuthRateLimiter authRateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimitProperties.setEndpoints(Map.of("login", new RateLimitProperties.Policy(
+                new RateLimitProperties.Limit(3, Duration.ofMinutes(1)),
+                new RateLimitProperties.Limit(1, Duration.ofMinutes(1)))));
+        authRateLimiter = new AuthRateLimiter(stringRedisTemplate, rateLimitProperties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("IP별 한도까지 허용하고 초과 요청은 재시도 시간과 함께 거절한다")
+    void rejectsBeyondIpLimit() {
+        authRateLimiter.check("login", IP, "a");
+        authRateLimiter.check("login", IP, "b");
+        authRateLimiter.check("login", IP, "c");
+
+        assertThatThrownBy(() -> authRateLimiter.check("login", IP, "d"))
+                .isInstanceOf(TooManyRequestsException.class)
+                .hasMessageContaining("초 후 다시 시도해주세요");
+        assertThat(stringRedisTemplate.opsForZSet().zCard(IP_KEY)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("식별자는 공백과 대소문자를 무시하고 같은 한도를 공유한다")
+    void normalizesIdentifier() {
+        authRateLimiter.check("login", "10.0.0.2", "User");
+
+        assertThatThrownBy(() -> authRateLimiter.check("login", "10.0.0.3", " user "))
+                .isInstanceOf(TooManyRequestsException.class);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 채운 전역 구간에서 거절되면 어떤 키에도 기록하지 않는다")
+    void rejectsOnGlobalWindowWithoutRecording() {
+        fillIpWindowFromOtherNodes();
+
+        assertThatThrownBy(() -> authRateLimiter.check("login", IP, "a"))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThat(stringRedisTemplate.opsForZSet().zCard(IP_KEY)).isEqualTo(3);
+        assertThat(stringRedisTemplate.hasKey("auth:rate:login:id:a")).isFalse();
+        assertThat(meterRegistry.counter("nlweb.auth.rate_limit", "endpoint", "login", "outcome", "rejected").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Redis에서 거절된 요청의 로컬 토큰은 반환되어 이후 허용 요청을 막지 않는다")
+    void refundsLocalTokensOnGlobalReject() {
+        fillIpWindowFromOtherNodes();
+        assertThatThrownBy(() -> authRateLimiter.check("login", IP, "a"))
+                .isInstanceOf(TooManyRequestsException.class);
+
+        // 다른 노드의 기록이 구간을 벗어난 상황
+        stringRedisTemplate.delete(IP_KEY);
+
+        assertThatCode(() -> {
+            authRateLimiter.check("login", IP, "a");
+            authRateLimiter.check("login", IP, "b");
+            authRateLimiter.check("login", IP, "c");
+        }).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("뒤쪽 키가 로컬에서 거절되면 앞서 꺼낸 IP 토큰을 반환한다")
+    void refundsEarlierTokensOnLocalReject() {
+        authRateLimiter.check("login", IP, "a");
+        assertThatThrownBy(() -> authRateLimiter.check("login", IP, "a"))
+                .isInstanceOf(TooManyRequestsException.class);
+
+        assertThatCode(() -> {
+            authRateLimiter.check("login", IP, "b");
+            authRateLimiter.check("login", IP, "c");
+        }).doesNotThrowAnyException();
+        assertThat(meterRegistry.counter("nlweb.auth.rate_limit", "endpoint", "login", "outcome", "rejected_local").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("제한이 꺼져 있거나 정책이 없는 엔드포인트는 확인하지 않는다")
+    void skipsDisabledOrUnknownEndpoints() {
+        for (int i = 0; i < 5; i++) {
+            authRateLimiter.check("unknown", IP, "a");
+        }
+
+        rateLimitProperties.setEnabled(false);
+        for (int i = 0; i < 5; i++) {
+            authRateLimiter.check("login", IP, "a");
+        }
+
+        assertThat(stringRedisTemplate.hasKey(IP_KEY)).isFalse();
+    }
+
+    // ========================== Private Methods ==========================
+
+    /** 다른 노드에서 허용된 요청으로 IP 구간을 가득 채움 */
+    private void fillIpWindowFromOtherNodes() {
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < 3; i++) {
+            stringRedisTemplate.opsForZSet().add(IP_KEY, "other-node-" + i, now);
+        }
+    }
+
+}
@@ -0,0 +1,117 @@
+package com.nlweb.auth.service;
+
+import com.nlweb.auth.service.RefreshTokenStore.RotationResult;
+import com.nlweb.config.properties.JwtProperties;
+import com.nlweb.support.RedisTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenStoreTest extends RedisTestSupport {
+
+    private static final String STUDENT_ID = "20240001";
+    private static final String SESSIONS_KEY = "auth:refresh:sessions:" + STUDENT_ID;
+    private static final String EXPIRY_KEY = "auth:refresh:expiry:" + STUDENT_ID;
+
+    @Mock
+    private JwtProperties jwtProperties;
+
+    private RefreshTokenStore refreshTokenStore;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenStore = new RefreshTokenStore(stringRedisTemplate, jwtProperties);
+    }
+
+    @Test
+    @DisplayName("발급한 토큰은 한 번씩 차례로 교체된다")
+    void rotatesIssuedToken() {
+        when(jwtProperties.getRefreshTokenValidity()).thenReturn(60_000L);
+        refreshTokenStore.issue(STUDENT_ID, "t1");
+
+        assertThat(refreshTokenStore.rotate(STUDENT_ID, "t1", "t2")).isEqualTo(RotationResult.ROTATED);
+        assertThat(refreshTokenStore.rotate(STUDENT_ID, "t2", "t3")).isEqualTo(RotationResult.ROTATED);
+        assertThat(refreshTokenStore.rotate(STUDENT_ID, "unknown", "t4")).isEqualTo(RotationResult.UNKNOWN);
+    }
+
+    @Test
+    @DisplayName("사용된 토큰이 다시 제시되면 그 패밀리만 폐기한다")
+    void revokesFamilyOnReuse() {
+        when(jwtProperties.getRefreshTokenValidity()).thenReturn(60_000L);
+        refreshTokenStore.issue(STUDENT_ID, "a1");
+        refreshTokenStore.issue(STUDENT_ID, "b1");
+        refreshTokenStore.rotate(STUDENT_ID, "a1", "a2");
+
+        assertThat(refreshTokenStore.rotate(STUDENT_ID, "a1", "a3")).isEqualTo(RotationResult.REUSED);
+        assertThat(refreshTokenStore.rotate(STUDENT_ID, "a2", "a3")).isEqualTo(RotationResult.UNKNOWN);
+        assertThat(refreshTokenStore.rotate(STUDENT_ID, "b1", "b2")).isEqualTo(RotationResult.ROTATED);
+        assertThat(stringRedisTemplate.opsForZSet().zCard(EXPIRY_KEY)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("보관 개수보다 오래된 토큰은 재사용으로 탐지되지 않고 거절되며 패밀리는 유지된다")
+    void rejectsTokensOlderThanRetainedHistory() {
+        when(jwtProperties.getRefreshTokenValidity()).thenReturn(60_000L);
+        refreshTokenStore.issue(STUDENT_ID, "t0");
+        for (int i = 0; i < 6; i++) {
+            refreshTokenStore.rotate(STUDENT_ID, "t" + i, "t" + (i + 1));
+        }
+
+        assertThat(refreshTokenStore.rotate(STUDENT_ID, "t0", "x")).isEqualTo(RotationResult.UNKNOWN);
+        assertThat(refreshTokenStore.rotate(STUDENT_ID, "t6", "t7")).isEqualTo(RotationResult.ROTATED);
+        assertThat(refreshTokenStore.rotate(STUDENT_ID, "t2", "x")).isEqualTo(RotationResult.REUSED);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 EXPIRED로 거절하고 만료된 패밀리는 정렬 집합 기준으로 정리한다")
+    void prunesExpiredFamilies() throws InterruptedException {
+        // 첫 발급만 짧은 유효 기간, 이후 발급이 키 TTL을 연장
+        when(jwtProperties.getRefreshTokenValidity()).thenReturn(300L, 60_000L);
+        refreshTokenStore.issue(STUDENT_ID, "short");
+        refreshTokenStore.issue(STUDENT_ID, "long");
+        Thread.sleep(500);
+
+        assertThat(refreshTokenStore.rotate(STUDENT_ID, "short", "next")).isEqualTo(RotationResult.EXPIRED);
+        assertThat(refreshTokenStore.rotate(STUDENT_ID, "short", "next")).isEqualTo(RotationResult.UNKNOWN);
+        assertThat(stringRedisTemplate.opsForZSet().zCard(EXPIRY_KEY)).isEqualTo(1);
+        assertThat(refreshTokenStore.rotate(STUDENT_ID, "long", "long2")).isEqualTo(RotationResult.ROTATED);
+    }
+
+    @Test
+    @DisplayName("로그아웃한 세션만 폐기하고 다른 기기의 세션은 유지한다")
+    void revokesSingleFamily() {
+        when(jwtProperties.getRefreshTokenValidity()).thenReturn(60_000L);
+        refreshTokenStore.issue(STUDENT_ID, "a1");
+        refreshTokenStore.issue(STUDENT_ID, "b1");
+        refreshTokenStore.rotate(STUDENT_ID, "a1", "a2");
+
+        refreshTokenStore.revokeFamily(STUDENT_ID, "a2");
+
+        assertThat(refreshTokenStore.rotate(STUDENT_ID, "a2", "a3")).isEqualTo(RotationResult.UNKNOWN);
+        assertThat(refreshTokenStore.rotate(STUDENT_ID, "a1", "a3")).isEqualTo(RotationResult.UNKNOWN);
+        assertThat(refreshTokenStore.rotate(STUDENT_ID, "b1", "b2")).isEqualTo(RotationResult.ROTATED);
+        assertThat(stringRedisTemplate.opsForZSet().zCard(EXPIRY_KEY)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("전체 폐기 시 사용자의 모든 세션 키를 지운다")
+    void revokesAllSessions() {
+        when(jwtProperties.getRefreshTokenValidity()).thenReturn(60_000L);
+        refreshTokenStore.issue(STUDENT_ID, "a1");
+        refreshTokenStore.issue(STUDENT_ID, "b1");
+
+        refreshTokenStore.revokeAll(STUDENT_ID);
+
+        assertThat(stringRedisTemplate.hasKey(SESSIONS_KEY)).isFalse();
+        assertThat(stringRedisTemplate.hasKey(EXPIRY_KEY)).isFalse();
+        assertThat(refreshTokenStore.rotate(STUDENT_ID, "b1", "b2")).isEqualTo(RotationResult.UNKNOWN);
+    }
+
+}
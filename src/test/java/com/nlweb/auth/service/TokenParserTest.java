@@ -0,0 +1,104 @@
+package com.nlweb.auth.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nlweb.auth.dto.ParsedToken;
+import com.nlweb.common.security.JwtTokenProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TokenParserTest {
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    private TokenParser tokenParser;
+
+    @BeforeEach
+    void setUp() {
+        tokenParser = new TokenParser(jwtTokenProvider, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("서명 검증 한 번으로 sub, jti, iat, exp를 본문에서 읽는다")
+    void readsStandardClaimsFromPayload() {
+        String token = token("{\"sub\":\"20240001\",\"jti\":\"token-1\",\"iat\":1700000000,\"exp\":1700003600}");
+        when(jwtTokenProvider.validateToken(token)).thenReturn(true);
+
+        Optional<ParsedToken> parsed = tokenParser.parse(token);
+
+        assertThat(parsed).contains(new ParsedToken("20240001", "token-1",
+                Instant.ofEpochSecond(1_700_000_000L), Instant.ofEpochSecond(1_700_003_600L)));
+        verify(jwtTokenProvider).validateToken(token);
+        verify(jwtTokenProvider, never()).getStudentIdFromToken(anyString());
+        verify(jwtTokenProvider, never()).getTokenId(anyString());
+    }
+
+    @Test
+    @DisplayName("본문에 sub/jti가 없으면 provider로 보완한다")
+    void fallsBackToProviderForMissingClaims() {
+        String token = token("{\"exp\":1700003600}");
+        when(jwtTokenProvider.validateToken(token)).thenReturn(true);
+        when(jwtTokenProvider.getStudentIdFromToken(token)).thenReturn("20240002");
+        when(jwtTokenProvider.getTokenId(token)).thenReturn("token-2");
+
+        ParsedToken parsed = tokenParser.parse(token).orElseThrow();
+
+        assertThat(parsed.studentId()).isEqualTo("20240002");
+        assertThat(parsed.tokenId()).isEqualTo("token-2");
+        assertThat(parsed.issuedAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("서명 검증에 실패한 토큰은 본문을 읽지 않고 빈 값을 반환한다")
+    void rejectsInvalidSignature() {
+        String token = token("{\"sub\":\"20240001\",\"exp\":1700003600}");
+        when(jwtTokenProvider.validateToken(token)).thenReturn(false);
+
+        assertThat(tokenParser.parse(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("만료 시각이 없거나 본문을 읽을 수 없는 토큰은 빈 값을 반환한다")
+    void rejectsMissingExpiryOrMalformedPayload() {
+        String withoutExpiry = token("{\"sub\":\"20240001\"}");
+        String malformed = "header.%%%.signature";
+        when(jwtTokenProvider.validateToken(withoutExpiry)).thenReturn(true);
+        when(jwtTokenProvider.validateToken(malformed)).thenReturn(true);
+
+        assertThat(tokenParser.parse(withoutExpiry)).isEmpty();
+        assertThat(tokenParser.parse(malformed)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("비어 있는 토큰은 검증하지 않고 빈 값을 반환한다")
+    void rejectsBlankToken() {
+        assertThat(tokenParser.parse(null)).isEmpty();
+        assertThat(tokenParser.parse(" ")).isEmpty();
+        verify(jwtTokenProvider, never()).validateToken(anyString());
+    }
+
+    // ========================== Private Methods ==========================
+
+    private static String token(String payload) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8))
+                + "." + encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8))
+                + ".signature";
+    }
+
+}
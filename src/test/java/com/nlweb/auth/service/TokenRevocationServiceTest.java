@@ -0,0 +1,152 @@
+package com.nlweb.auth.service;
+
+import com.nlweb.config.properties.TokenRevocationProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationServiceTest {
+
+    private static final String BLACKLIST_KEY_PREFIX = "auth:blacklist:";
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private Cursor<String> cursor;
+
+    private final TokenRevocationProperties tokenRevocationProperties = new TokenRevocationProperties();
+
+    private TokenRevocationService tokenRevocationService;
+    private MessageListener listener;
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocationService = new TokenRevocationService(
+                stringRedisTemplate, redisMessageListenerContainer, tokenRevocationProperties);
+        tokenRevocationService.subscribe();
+
+        ArgumentCaptor<MessageListener> captor = ArgumentCaptor.forClass(MessageListener.class);
+        verify(redisMessageListenerContainer).addMessageListener(captor.capture(), any(Topic.class));
+        listener = captor.getValue();
+    }
+
+    @Test
+    @DisplayName("초기 적재 전에는 필터 없이 항상 Redis로 확인한다")
+    void checksRedisUntilLoaded() {
+        when(stringRedisTemplate.hasKey(BLACKLIST_KEY_PREFIX + "token")).thenReturn(false);
+
+        assertThat(tokenRevocationService.isRevoked("token")).isFalse();
+        verify(stringRedisTemplate).hasKey(BLACKLIST_KEY_PREFIX + "token");
+    }
+
+    @Test
+    @DisplayName("필터가 없다고 답하면 Redis를 조회하지 않는다")
+    void skipsRedisOnFilterMiss() {
+        loadEmpty();
+
+        assertThat(tokenRevocationService.isRevoked("token")).isFalse();
+        verify(stringRedisTemplate, never()).hasKey(anyString());
+    }
+
+    @Test
+    @DisplayName("폐기한 토큰은 블랙리스트에 기록하고 전파하며, 조회 시 Redis로 확인한다")
+    void revokesAndConfirmsWithRedis() {
+        loadEmpty();
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(stringRedisTemplate.hasKey(BLACKLIST_KEY_PREFIX + "token")).thenReturn(true);
+
+        tokenRevocationService.revoke("token", 60_000);
+
+        verify(valueOperations).set(BLACKLIST_KEY_PREFIX + "token", "LOGGED_OUT", Duration.ofMillis(60_000));
+        verify(stringRedisTemplate).convertAndSend(eq(tokenRevocationProperties.getChannel()), any(String.class));
+        assertThat(tokenRevocationService.isRevoked("token")).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 노드의 폐기 메시지를 필터에 반영한다")
+    void appliesRemoteRevocation() {
+        loadEmpty();
+        when(stringRedisTemplate.hasKey(BLACKLIST_KEY_PREFIX + "remote")).thenReturn(true);
+
+        deliver("remote|" + (System.currentTimeMillis() + 60_000));
+
+        assertThat(tokenRevocationService.isRevoked("remote")).isTrue();
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지난 파티션은 통째로 버린다")
+    void purgesExpiredPartitions() {
+        loadEmpty();
+        long partitionMillis = tokenRevocationProperties.getPartitionDuration().toMillis();
+        deliver("expired|" + (System.currentTimeMillis() - partitionMillis * 2));
+        deliver("alive|" + (System.currentTimeMillis() + partitionMillis * 2));
+        when(stringRedisTemplate.hasKey(BLACKLIST_KEY_PREFIX + "alive")).thenReturn(true);
+
+        tokenRevocationService.purgeExpiredPartitions();
+
+        assertThat(tokenRevocationService.isRevoked("expired")).isFalse();
+        verify(stringRedisTemplate, never()).hasKey(BLACKLIST_KEY_PREFIX + "expired");
+        assertThat(tokenRevocationService.isRevoked("alive")).isTrue();
+    }
+
+    @Test
+    @DisplayName("시작 시 Redis 블랙리스트를 SCAN해 필터를 채운다")
+    void loadsBlacklistOnStartup() {
+        when(stringRedisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+        when(cursor.hasNext()).thenReturn(true, false);
+        when(cursor.next()).thenReturn(BLACKLIST_KEY_PREFIX + "stored");
+        when(stringRedisTemplate.getExpire(BLACKLIST_KEY_PREFIX + "stored", TimeUnit.MILLISECONDS)).thenReturn(30_000L);
+        when(stringRedisTemplate.hasKey(BLACKLIST_KEY_PREFIX + "stored")).thenReturn(true);
+
+        tokenRevocationService.initialize();
+
+        assertThat(tokenRevocationService.isRevoked("stored")).isTrue();
+        assertThat(tokenRevocationService.isRevoked("other")).isFalse();
+        verify(stringRedisTemplate, never()).hasKey(BLACKLIST_KEY_PREFIX + "other");
+    }
+
+    // ========================== Private Methods ==========================
+
+    private void loadEmpty() {
+        when(stringRedisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+        when(cursor.hasNext()).thenReturn(false);
+        tokenRevocationService.initialize();
+    }
+
+    private void deliver(String message) {
+        listener.onMessage(new DefaultMessage(tokenRevocationProperties.getChannel().getBytes(StandardCharsets.UTF_8),
+                message.getBytes(StandardCharsets.UTF_8)), null);
+    }
+
+}
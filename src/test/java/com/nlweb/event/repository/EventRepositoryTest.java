@@ -0,0 +1,128 @@
+package com.nlweb.event.repository;
+
+import com.nlweb.admin.entity.Admin;
+import com.nlweb.common.enums.EventType;
+import com.nlweb.common.enums.UserSessionType;
+import com.nlweb.common.enums.UserStatus;
+import com.nlweb.event.dto.EventSnapshot;
+import com.nlweb.event.entity.Event;
+import com.nlweb.support.PostgresTestSupport;
+import com.nlweb.user.entity.User;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class EventRepositoryTest extends PostgresTestSupport {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 3, 1, 19, 0);
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    private Event root;
+    private Event child;
+    private Event inactive;
+
+    @BeforeEach
+    void setUp() {
+        User user = testEntityManager.persist(User.builder()
+                .studentId("20240001").username("관리자").password("password")
+                .email("admin@nlweb.com").phone("010-0000-0001")
+                .batch(24).session(UserSessionType.GUITAR).status(UserStatus.ACTIVE)
+                .build());
+        Admin admin = testEntityManager.persist(Admin.builder()
+                .user(user).role("ADMIN").appointedBy("20240001").build());
+
+        root = testEntityManager.persist(event(admin, "정기 공연", null, START.plusDays(2)));
+        child = testEntityManager.persist(event(admin, "합주", root, START.plusDays(1)));
+        inactive = event(admin, "취소된 공연", null, START);
+        inactive.deactivate();
+        testEntityManager.persist(inactive);
+
+        testEntityManager.flush();
+        testEntityManager.clear();
+    }
+
+    @Test
+    @DisplayName("스냅샷 프로젝션은 연관 ID와 생성자 학번을 채우고 엔티티를 영속성 컨텍스트에 올리지 않는다")
+    void projectsSnapshotWithoutManagedEntities() {
+        EventSnapshot snapshot = eventRepository.findSnapshotById(child.getId()).orElseThrow();
+
+        assertThat(snapshot.title()).isEqualTo("합주");
+        assertThat(snapshot.parentEventId()).isEqualTo(root.getId());
+        assertThat(snapshot.rootEventId()).isEqualTo(root.getId());
+        assertThat(snapshot.depth()).isEqualTo(1);
+        assertThat(snapshot.createdByStudentId()).isEqualTo("20240001");
+        assertThat(snapshot.childEventIds()).isEmpty();
+        assertThat(snapshot.version()).isNotNull();
+        assertThat(managedEntityCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("활성 이벤트 스냅샷은 시작 시각, ID 순으로 조회된다")
+    void readsActiveSnapshotsInStartOrder() {
+        List<EventSnapshot> snapshots = eventRepository.findActiveSnapshots();
+
+        assertThat(snapshots).extracting(EventSnapshot::id).containsExactly(child.getId(), root.getId());
+        assertThat(managedEntityCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("상세 조회는 이벤트와 직계 하위 이벤트를 한 번에, 하위 ID는 별도 링크 쿼리로 읽는다")
+    void readsDetailWithChildLinks() {
+        assertThat(eventRepository.findSnapshotsWithChildrenById(root.getId()))
+                .extracting(EventSnapshot::id)
+                .containsExactlyInAnyOrder(root.getId(), child.getId());
+
+        List<Object[]> links = eventRepository.findChildLinks(List.of(root.getId(), inactive.getId()));
+        assertThat(links).hasSize(1);
+        assertThat(links.get(0)).containsExactly(root.getId(), child.getId());
+    }
+
+    @Test
+    @DisplayName("참가자 수 벌크 업데이트는 버전을 올리지 않는다")
+    void updatesParticipantsWithoutVersionBump() {
+        Long version = eventRepository.findSnapshotById(root.getId()).orElseThrow().version();
+
+        eventRepository.updateCurrentParticipants(root.getId(), 7);
+
+        EventSnapshot updated = eventRepository.findSnapshotById(root.getId()).orElseThrow();
+        assertThat(updated.currentParticipants()).isEqualTo(7);
+        assertThat(updated.version()).isEqualTo(version);
+    }
+
+    // ========================== Private Methods ==========================
+
+    private Event event(Admin admin, String title, Event parent, LocalDateTime start) {
+        return Event.builder()
+                .createdBy(admin)
+                .parentEvent(parent)
+                .rootEvent(parent)
+                .title(title)
+                .eventType(EventType.REGULAR_CONCERT)
+                .depth(parent != null ? 1 : 0)
+                .startDateTime(start)
+                .endDateTime(start.plusHours(3))
+                .maxParticipants(10)
+                .build();
+    }
+
+    private int managedEntityCount() {
+        return testEntityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount();
+    }
+
+}
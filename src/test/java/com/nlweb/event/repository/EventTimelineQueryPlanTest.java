@@ -0,0 +1,125 @@
+package com.nlweb.event.repository;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+import org.testcontainers.utility.MountableFile;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 활성 이벤트 타임라인 적재 쿼리의 실행 계획 검증
+ * <p>
+ * docker/init.sql 스크립트로 만든 실제 스키마에 이벤트 10만 건을 넣고,
+ * EventRepository.findActiveSnapshots의 이벤트 조회가 부분 인덱스 순서대로 정렬 없이 처리되는지 확인한다.
+ */
+class EventTimelineQueryPlanTest {
+
+    private static final int EVENT_COUNT = 100_000;
+
+    /** findActiveSnapshots의 events 조회 부분 (생성자 조인 제외) */
+    private static final String ACTIVE_TIMELINE_QUERY = """
+            SELECT e.id, e.title, e.event_type, e.is_active, e.max_participants, e.current_participants,
+                   e.start_datetime, e.end_datetime, e.parent_event, e.root_event, e.depth, e.version
+            FROM events e
+            WHERE e.is_active = true
+            ORDER BY e.start_datetime, e.id
+            """;
+
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>(DockerImageName.parse("postgres:16-alpine"))
+            .withCopyFileToContainer(MountableFile.forHostPath("docker/init.sql"), "/docker-entrypoint-initdb.d/");
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void setUp() throws SQLException {
+        POSTGRES.start();
+        connection = DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+
+        try (Statement statement = connection.createStatement()) {
+            // 10건 중 1건은 비활성
+            statement.execute("""
+                    INSERT INTO events (title, event_type, start_datetime, end_datetime, is_active, max_participants)
+                    SELECT 'event-' || i, 'EXTRA_EVENT',
+                           timestamptz '2020-01-01 00:00+09' + i * interval '30 minutes',
+                           timestamptz '2020-01-01 00:00+09' + i * interval '30 minutes' + interval '2 hours',
+                           i % 10 <> 0, 30
+                    FROM generate_series(1, %d) AS i
+                    """.formatted(EVENT_COUNT));
+            statement.execute("ANALYZE events");
+        }
+    }
+
+    @AfterAll
+    static void tearDown() throws SQLException {
+        connection.close();
+        POSTGRES.stop();
+    }
+
+    @Test
+    @DisplayName("첫 페이지 조회는 설정 변경 없이 부분 인덱스를 순서대로 읽는다")
+    void readsFirstPageThroughPartialIndex() throws SQLException {
+        String plan = explain(ACTIVE_TIMELINE_QUERY + "LIMIT 50");
+
+        assertThat(plan).contains("Index Scan using idx_events_active_start");
+        assertThat(plan).doesNotContain("Sort");
+    }
+
+    @Test
+    @DisplayName("전체 적재 시에도 부분 인덱스가 정렬 없이 (start_datetime, id) 순서를 제공한다")
+    void servesFullTimelineInIndexOrder() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET enable_seqscan = off");
+        }
+
+        try {
+            String plan = explain(ACTIVE_TIMELINE_QUERY);
+
+            assertThat(plan).contains("Index Scan using idx_events_active_start");
+            assertThat(plan).doesNotContain("Sort");
+        } finally {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("RESET enable_seqscan");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("불리언 선두 컬럼 인덱스는 제거되어 있다")
+    void dropsLegacyBooleanLeadingIndex() throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(
+                     "SELECT indexname FROM pg_indexes WHERE tablename = 'events'")) {
+            StringBuilder indexes = new StringBuilder();
+            while (resultSet.next()) {
+                indexes.append(resultSet.getString(1)).append('\n');
+            }
+
+            assertThat(indexes.toString())
+                    .contains("idx_events_active_start")
+                    .doesNotContain("idx_events_active_datetime");
+        }
+    }
+
+    // ========================== Private Methods ==========================
+
+    private static String explain(String query) throws SQLException {
+        StringBuilder plan = new StringBuilder();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("EXPLAIN " + query)) {
+            while (resultSet.next()) {
+                plan.append(resultSet.getString(1)).append('\n');
+            }
+        }
+        return plan.toString();
+    }
+
+}
@@ -0,0 +1,171 @@
+package com.nlweb.event.service;
+
+import com.nlweb.event.repository.EventBulkRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class EventRosterIndexTest {
+
+    private static final String CHANNEL = "nlweb:event:roster";
+
+    @Mock
+    private EventBulkRepository eventBulkRepository;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private EventRosterIndex eventRosterIndex;
+    private MessageListener listener;
+
+    @BeforeEach
+    void setUp() {
+        // (이벤트 ID, 사용자 ID) 순 적재 데이터
+        long[][] rows = {{1, 10}, {1, 20}, {1, 30}, {2, 20}, {3, 10}};
+        doAnswer(invocation -> {
+            EventBulkRepository.ParticipantRowHandler handler = invocation.getArgument(0);
+            for (long[] row : rows) {
+                handler.accept(row[0], row[1]);
+            }
+            return null;
+        }).when(eventBulkRepository).forEachParticipant(any());
+
+        eventRosterIndex = new EventRosterIndex(eventBulkRepository, stringRedisTemplate, redisMessageListenerContainer);
+        eventRosterIndex.subscribe();
+
+        ArgumentCaptor<MessageListener> captor = ArgumentCaptor.forClass(MessageListener.class);
+        verify(redisMessageListenerContainer).addMessageListener(captor.capture(), any(Topic.class));
+        listener = captor.getValue();
+
+        // 변경은 적재된 명단에만 반영되므로 먼저 적재
+        eventRosterIndex.count(1L);
+    }
+
+    @Test
+    @DisplayName("적재한 참가 관계로 참가 여부, 참가자 수, 사용자별 이벤트를 조회한다")
+    void answersFromLoadedRoster() {
+        assertThat(eventRosterIndex.contains(1L, 20L)).isTrue();
+        assertThat(eventRosterIndex.contains(2L, 10L)).isFalse();
+        assertThat(eventRosterIndex.contains(99L, 10L)).isFalse();
+        assertThat(eventRosterIndex.contains(1L, null)).isFalse();
+
+        assertThat(eventRosterIndex.count(1L)).isEqualTo(3);
+        assertThat(eventRosterIndex.count(99L)).isZero();
+
+        assertThat(eventRosterIndex.countEventsOf(10L)).isEqualTo(2);
+        assertThat(eventsOf(10L)).containsExactly(1L, 3L);
+        assertThat(eventsOf(20L)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("추가와 삭제는 정렬 순서를 유지하며 반영되고 다른 노드로 발행된다")
+    void appliesAndPublishesChanges() {
+        eventRosterIndex.add(List.of(new EventRosterIndex.Membership(2L, 5L), new EventRosterIndex.Membership(2L, 40L)));
+        eventRosterIndex.remove(List.of(new EventRosterIndex.Membership(1L, 20L)));
+
+        assertThat(eventRosterIndex.count(2L)).isEqualTo(3);
+        assertThat(eventRosterIndex.contains(2L, 5L)).isTrue();
+        assertThat(eventRosterIndex.contains(1L, 20L)).isFalse();
+        assertThat(eventsOf(20L)).containsExactly(2L);
+        assertThat(eventsOf(5L)).containsExactly(2L);
+
+        ArgumentCaptor<String> messages = ArgumentCaptor.forClass(String.class);
+        verify(stringRedisTemplate, times(2)).convertAndSend(eq(CHANNEL), messages.capture());
+        assertThat(messages.getAllValues().get(0)).endsWith("|+ 2:5 2:40");
+        assertThat(messages.getAllValues().get(1)).endsWith("|- 1:20");
+    }
+
+    @Test
+    @DisplayName("같은 참가를 두 번 추가하거나 없는 참가를 삭제해도 명단은 변하지 않는다")
+    void ignoresDuplicateAddsAndMissingRemoves() {
+        eventRosterIndex.add(List.of(new EventRosterIndex.Membership(1L, 10L)));
+        eventRosterIndex.remove(List.of(new EventRosterIndex.Membership(2L, 99L)));
+
+        assertThat(eventRosterIndex.count(1L)).isEqualTo(3);
+        assertThat(eventRosterIndex.count(2L)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("마지막 참가자가 빠진 이벤트와 사용자는 비어 있는 것으로 조회된다")
+    void dropsEmptyKeys() {
+        eventRosterIndex.remove(List.of(new EventRosterIndex.Membership(2L, 20L)));
+
+        assertThat(eventRosterIndex.count(2L)).isZero();
+        assertThat(eventsOf(20L)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("사용자 삭제 시 그 사용자의 모든 참가가 제거된다")
+    void removesAllMembershipsOfUser() {
+        eventRosterIndex.removeUser(10L);
+
+        assertThat(eventRosterIndex.countEventsOf(10L)).isZero();
+        assertThat(eventRosterIndex.contains(1L, 10L)).isFalse();
+        assertThat(eventRosterIndex.count(3L)).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 노드의 메시지는 반영하고 자신이 보낸 메시지는 다시 적용하지 않는다")
+    void appliesRemoteMessagesAndSkipsOwnEchoes() {
+        eventRosterIndex.add(List.of(new EventRosterIndex.Membership(4L, 10L)));
+        ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+        verify(stringRedisTemplate).convertAndSend(eq(CHANNEL), published.capture());
+
+        // 자신이 보낸 추가 메시지가 돌아오기 전에 삭제된 경우, 되돌아온 메시지로 다시 추가되면 안 됨
+        eventRosterIndex.remove(List.of(new EventRosterIndex.Membership(4L, 10L)));
+        deliver(published.getValue());
+        assertThat(eventRosterIndex.contains(4L, 10L)).isFalse();
+
+        deliver("other-node|+ 4:30 5:30");
+        deliver("other-node|- 1:30");
+        assertThat(eventRosterIndex.contains(4L, 30L)).isTrue();
+        assertThat(eventsOf(30L)).containsExactly(4L, 5L);
+    }
+
+    @Test
+    @DisplayName("처리할 수 없는 메시지를 받으면 전체 재적재한다")
+    void reloadsOnMalformedMessage() {
+        deliver("other-node|+ broken");
+
+        verify(eventBulkRepository, times(2)).forEachParticipant(any());
+        verify(stringRedisTemplate, times(0)).convertAndSend(anyString(), anyString());
+    }
+
+    // ========================== Private Methods ==========================
+
+    private List<Long> eventsOf(Long userId) {
+        List<Long> eventIds = new ArrayList<>();
+        eventRosterIndex.forEachEventOf(userId, eventIds::add);
+        return eventIds;
+    }
+
+    private void deliver(String message) {
+        listener.onMessage(new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8),
+                message.getBytes(StandardCharsets.UTF_8)), null);
+    }
+
+}
@@ -0,0 +1,175 @@
+package com.nlweb.event.service;
+
+import com.nlweb.common.cache.CacheEvictions;
+import com.nlweb.event.repository.EventParticipantRepository;
+import com.nlweb.event.repository.EventRepository;
+import com.nlweb.support.RedisTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EventSeatReservationServiceTest extends RedisTestSupport {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private EventParticipantRepository eventParticipantRepository;
+
+    @Mock
+    private EventCacheService eventCacheService;
+
+    @Mock
+    private CacheEvictions cacheEvictions;
+
+    private EventSeatReservationService eventSeatReservationService;
+
+    @BeforeEach
+    void setUp() {
+        eventSeatReservationService = new EventSeatReservationService(
+                eventRepository, eventParticipantRepository, eventCacheService, stringRedisTemplate, cacheEvictions);
+    }
+
+    @Test
+    @DisplayName("정원까지만 예약되고 초과 요청은 거절된다")
+    void reservesUpToCapacity() {
+        when(eventParticipantRepository.countByEventId(1L)).thenReturn(0L);
+
+        assertThat(eventSeatReservationService.tryReserve(1L, 2)).isTrue();
+        assertThat(eventSeatReservationService.tryReserve(1L, 2)).isTrue();
+        assertThat(eventSeatReservationService.tryReserve(1L, 2)).isFalse();
+        assertThat(eventSeatReservationService.getConfirmedSeats(1L)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("카운터가 없으면 참가자 행 수로 초기화한 뒤 정원을 검사한다")
+    void seedsFromParticipantRows() {
+        when(eventParticipantRepository.countByEventId(1L)).thenReturn(2L);
+
+        assertThat(eventSeatReservationService.tryReserve(1L, 3)).isTrue();
+        assertThat(eventSeatReservationService.tryReserve(1L, 3)).isFalse();
+        assertThat(eventSeatReservationService.getConfirmedSeats(1L)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("정원이 없으면 제한 없이 예약된다")
+    void reservesWithoutLimit() {
+        when(eventParticipantRepository.countByEventId(1L)).thenReturn(100L);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(eventSeatReservationService.tryReserve(1L, null)).isTrue();
+        }
+        assertThat(eventSeatReservationService.getConfirmedSeats(1L)).isEqualTo(110);
+    }
+
+    @Test
+    @DisplayName("동시에 요청해도 정원을 넘겨 예약되지 않는다")
+    void neverOversellsUnderConcurrency() throws Exception {
+        when(eventParticipantRepository.countByEventId(1L)).thenReturn(0L);
+        int threads = 32;
+        int capacity = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<Boolean>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < threads * 2; i++) {
+                Callable<Boolean> reserve = () -> {
+                    start.await();
+                    return eventSeatReservationService.tryReserve(1L, capacity);
+                };
+                results.add(executor.submit(reserve));
+            }
+            start.countDown();
+
+            int reserved = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get()) {
+                    reserved++;
+                }
+            }
+            assertThat(reserved).isEqualTo(capacity);
+            assertThat(eventSeatReservationService.getConfirmedSeats(1L)).isEqualTo(capacity);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("반납한 좌석은 다시 예약할 수 있고 0 아래로 내려가지 않는다")
+    void releasesSeats() {
+        when(eventParticipantRepository.countByEventId(1L)).thenReturn(0L);
+
+        assertThat(eventSeatReservationService.tryReserve(1L, 1)).isTrue();
+        eventSeatReservationService.release(1L);
+        assertThat(eventSeatReservationService.tryReserve(1L, 1)).isTrue();
+
+        eventSeatReservationService.release(1L);
+        eventSeatReservationService.release(1L);
+        assertThat(eventSeatReservationService.getConfirmedSeats(1L)).isZero();
+        assertThat(eventSeatReservationService.tryReserve(1L, 1)).isTrue();
+    }
+
+    @Test
+    @DisplayName("여러 이벤트의 확정 좌석 수를 한 번에 조회하고 카운터가 없는 이벤트는 제외한다")
+    void readsConfirmedSeatsInBatch() {
+        when(eventParticipantRepository.countByEventId(anyLong())).thenReturn(0L);
+        eventSeatReservationService.tryReserve(1L, null);
+        eventSeatReservationService.tryReserve(2L, null);
+        eventSeatReservationService.tryReserve(2L, null);
+
+        assertThat(eventSeatReservationService.getConfirmedSeats(List.of(1L, 2L, 3L)))
+                .containsOnlyKeys(1L, 2L)
+                .containsEntry(1L, 1)
+                .containsEntry(2L, 2);
+        assertThat(eventSeatReservationService.getConfirmedSeats(3L)).isNull();
+        assertThat(eventSeatReservationService.getConfirmedSeats(List.of())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("확정 좌석 수를 DB에 반영하고 캐시를 비운다")
+    void flushesConfirmedSeats() {
+        when(eventParticipantRepository.countByEventId(1L)).thenReturn(4L);
+        eventSeatReservationService.tryReserve(1L, null);
+
+        eventSeatReservationService.flushConfirmedSeats();
+
+        verify(eventRepository).updateCurrentParticipants(1L, 5);
+        verify(eventCacheService).evictEventCache(1L);
+    }
+
+    @Test
+    @DisplayName("삭제된 이벤트의 카운터는 커밋 후 제거된다")
+    void forgetsCountersAfterCommit() {
+        when(eventParticipantRepository.countByEventId(1L)).thenReturn(0L);
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(cacheEvictions).afterCommit(any());
+        eventSeatReservationService.tryReserve(1L, null);
+
+        eventSeatReservationService.forget(List.of(1L));
+
+        assertThat(stringRedisTemplate.hasKey("event:seats:1")).isFalse();
+        assertThat(eventSeatReservationService.getConfirmedSeats(1L)).isNull();
+    }
+
+}
@@ -0,0 +1,108 @@
+package com.nlweb.event.service;
+
+import com.nlweb.common.enums.EventType;
+import com.nlweb.event.dto.EventSnapshot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EventTimelineIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 15, 12, 0);
+
+    private final EventTimelineIndex eventTimelineIndex = new EventTimelineIndex();
+
+    @Test
+    @DisplayName("적재 전에는 조회할 수 없다")
+    void requiresLoadedTimeline() {
+        assertThat(eventTimelineIndex.isReady()).isFalse();
+        assertThatThrownBy(() -> eventTimelineIndex.findOngoing(NOW)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("일 단위로 다가오는/진행 중/종료 이벤트를 나눈다")
+    void classifiesByDay() {
+        EventSnapshot endedYesterday = event(1L, NOW.minusDays(3), NOW.minusDays(1), true);
+        EventSnapshot endsToday = event(2L, NOW.minusDays(2), NOW.withHour(1), true);
+        EventSnapshot startsLaterToday = event(3L, NOW.withHour(23), NOW.plusDays(1), true);
+        EventSnapshot startsTomorrow = event(4L, NOW.plusDays(1).withHour(0), NOW.plusDays(2), true);
+        EventSnapshot inactive = event(5L, NOW.minusDays(1), NOW.plusDays(1), false);
+
+        eventTimelineIndex.replaceAll(List.of(endedYesterday, endsToday, startsLaterToday, startsTomorrow, inactive));
+
+        assertThat(eventTimelineIndex.findPast(NOW)).containsExactly(endedYesterday);
+        assertThat(eventTimelineIndex.findOngoing(NOW)).containsExactly(endsToday, startsLaterToday);
+        assertThat(eventTimelineIndex.findUpcoming(NOW)).containsExactly(startsTomorrow);
+    }
+
+    @Test
+    @DisplayName("추가/수정/삭제가 새 스냅샷에 반영된다")
+    void appliesUpsertAndRemove() {
+        EventSnapshot upcoming = event(1L, NOW.plusDays(3), NOW.plusDays(4), true);
+        eventTimelineIndex.replaceAll(List.of(upcoming));
+
+        EventSnapshot moved = event(1L, NOW.minusDays(1), NOW.plusDays(1), true);
+        eventTimelineIndex.upsert(moved);
+        assertThat(eventTimelineIndex.findUpcoming(NOW)).isEmpty();
+        assertThat(eventTimelineIndex.findOngoing(NOW)).containsExactly(moved);
+
+        eventTimelineIndex.upsert(event(1L, NOW.minusDays(1), NOW.plusDays(1), false));
+        assertThat(eventTimelineIndex.findOngoing(NOW)).isEmpty();
+
+        eventTimelineIndex.upsert(upcoming);
+        eventTimelineIndex.remove(1L);
+        assertThat(eventTimelineIndex.findUpcoming(NOW)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("임의의 이벤트 집합에서 전수 비교 결과와 같다")
+    void matchesBruteForce() {
+        Random random = new Random(42);
+        List<EventSnapshot> events = new ArrayList<>();
+        LocalDateTime base = NOW.minusDays(60);
+        for (long id = 1; id <= 500; id++) {
+            LocalDateTime start = base.plusHours(random.nextInt(120 * 24));
+            LocalDateTime end = start.plusHours(1 + random.nextInt(20 * 24));
+            events.add(event(id, start, end, random.nextInt(10) > 0));
+        }
+        eventTimelineIndex.replaceAll(events);
+
+        for (int day = 0; day < 120; day++) {
+            LocalDateTime now = base.plusDays(day).plusHours(random.nextInt(24));
+            LocalDate today = now.toLocalDate();
+            List<EventSnapshot> active = events.stream().filter(EventSnapshot::isActive).toList();
+
+            assertThat(eventTimelineIndex.findUpcoming(now)).containsExactlyElementsOf(active.stream()
+                    .filter(event -> event.startDateTime().toLocalDate().isAfter(today))
+                    .sorted(Comparator.comparing(EventSnapshot::startDateTime).thenComparing(EventSnapshot::id))
+                    .toList());
+
+            assertThat(eventTimelineIndex.findOngoing(now)).containsExactlyElementsOf(active.stream()
+                    .filter(event -> !event.startDateTime().toLocalDate().isAfter(today)
+                            && !event.endDateTime().toLocalDate().isBefore(today))
+                    .sorted(Comparator.comparing(EventSnapshot::startDateTime).thenComparing(EventSnapshot::id))
+                    .toList());
+
+            assertThat(eventTimelineIndex.findPast(now)).containsExactlyElementsOf(active.stream()
+                    .filter(event -> event.endDateTime().toLocalDate().isBefore(today))
+                    .sorted(Comparator.comparing(EventSnapshot::endDateTime).thenComparing(EventSnapshot::id).reversed())
+                    .toList());
+        }
+    }
+
+    // ========================== Private Methods ==========================
+
+    private static EventSnapshot event(Long id, LocalDateTime start, LocalDateTime end, boolean active) {
+        return new EventSnapshot(id, "event-" + id, null, EventType.EXTRA_EVENT, active, null, 0,
+                start, end, null, null, 0, null, 1L);
+    }
+
+}
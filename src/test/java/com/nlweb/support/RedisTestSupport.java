@@ -0,0 +1,38 @@
+package com.nlweb.support;
+
+import com.redis.testcontainers.RedisContainer;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Lua 스크립트 테스트용 Redis 컨테이너 (테스트 전체에서 하나를 공유하고 테스트마다 비움)
+ */
+public abstract class RedisTestSupport {
+
+    private static final RedisContainer REDIS = new RedisContainer(DockerImageName.parse("redis:7.2-alpine"));
+
+    protected static final StringRedisTemplate stringRedisTemplate;
+
+    static {
+        REDIS.start();
+
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getFirstMappedPort()));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @BeforeEach
+    void flushRedis() {
+        stringRedisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+    }
+
+}
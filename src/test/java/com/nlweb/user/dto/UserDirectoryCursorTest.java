@@ -0,0 +1,45 @@
+package com.nlweb.user.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UserDirectoryCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 디코딩하면 같은 키셋 위치가 된다")
+    void roundTrips() {
+        UserDirectoryCursor cursor = new UserDirectoryCursor(24, "20240001");
+
+        String encoded = cursor.encode();
+
+        assertThat(encoded).doesNotContain("=", "+", "/");
+        assertThat(UserDirectoryCursor.decode(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("학번에 구분자가 있어도 첫 구분자만 기준으로 나눈다")
+    void splitsOnFirstSeparatorOnly() {
+        UserDirectoryCursor cursor = new UserDirectoryCursor(0, "a:b");
+
+        assertThat(UserDirectoryCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 IllegalArgumentException으로 거절한다")
+    void rejectsMalformedCursor() {
+        String withoutSeparator = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("20240001".getBytes(StandardCharsets.UTF_8));
+        String nonNumericBatch = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("x:20240001".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> UserDirectoryCursor.decode("%%%")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> UserDirectoryCursor.decode(withoutSeparator)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> UserDirectoryCursor.decode(nonNumericBatch)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
@@ -0,0 +1,119 @@
+package com.nlweb.user.repository;
+
+import com.nlweb.admin.dto.AdminSnapshot;
+import com.nlweb.admin.entity.Admin;
+import com.nlweb.admin.repository.AdminRepository;
+import com.nlweb.common.enums.UserSessionType;
+import com.nlweb.common.enums.UserStatus;
+import com.nlweb.support.PostgresTestSupport;
+import com.nlweb.user.dto.UserSnapshot;
+import com.nlweb.user.entity.User;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class UserRepositoryTest extends PostgresTestSupport {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AdminRepository adminRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @BeforeEach
+    void setUp() {
+        User admin = persistUser("20230001", 23, UserSessionType.VOCAL, UserStatus.ACTIVE);
+        testEntityManager.persist(Admin.builder()
+                .user(admin).role("PRESIDENT").appointedBy("20200001").appointmentReason("정기 선출").build());
+        persistUser("20240002", 24, UserSessionType.GUITAR, UserStatus.ACTIVE);
+        persistUser("20240001", 24, UserSessionType.BASS, UserStatus.ACTIVE);
+        persistUser("20250001", 25, UserSessionType.DRUM, UserStatus.ACTIVE);
+        persistUser("20250002", 25, UserSessionType.DRUM, UserStatus.PENDING);
+
+        testEntityManager.flush();
+        testEntityManager.clear();
+    }
+
+    @Test
+    @DisplayName("사용자 스냅샷은 관리자 정보를 LEFT JOIN으로 함께 읽고 엔티티를 만들지 않는다")
+    void projectsUserWithAdminColumns() {
+        UserSnapshot admin = userRepository.findSnapshotByStudentId("20230001").orElseThrow();
+        UserSnapshot member = userRepository.findSnapshotByStudentId("20240001").orElseThrow();
+
+        assertThat(admin.isVocalable()).isTrue();
+        assertThat(admin.adminRole()).isEqualTo("PRESIDENT");
+        assertThat(admin.adminAppointedBy()).isEqualTo("20200001");
+        assertThat(admin.adminCreatedAt()).isNotNull();
+        assertThat(member.adminRole()).isNull();
+        assertThat(member.session()).isEqualTo(UserSessionType.BASS);
+        assertThat(managedEntityCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("키셋 페이지는 (기수, 학번) 순으로 이어지고 다른 상태의 사용자는 제외한다")
+    void pagesByKeyset() {
+        List<UserSnapshot> first = userRepository.findFirstSnapshotPageByStatus(UserStatus.ACTIVE, PageRequest.ofSize(2));
+        UserSnapshot last = first.get(first.size() - 1);
+        List<UserSnapshot> second = userRepository.findSnapshotPageByStatusAfter(
+                UserStatus.ACTIVE, last.batch(), last.studentId(), PageRequest.ofSize(2));
+        List<UserSnapshot> third = userRepository.findSnapshotPageByStatusAfter(
+                UserStatus.ACTIVE, 25, "20250001", PageRequest.ofSize(2));
+
+        assertThat(first).extracting(UserSnapshot::studentId).containsExactly("20230001", "20240001");
+        assertThat(second).extracting(UserSnapshot::studentId).containsExactly("20240002", "20250001");
+        assertThat(third).isEmpty();
+    }
+
+    @Test
+    @DisplayName("스트리밍 조회도 같은 순서로 스냅샷만 전달한다")
+    void streamsSnapshotsInKeysetOrder() {
+        try (Stream<UserSnapshot> stream = userRepository.streamSnapshotsByStatus(UserStatus.ACTIVE)) {
+            assertThat(stream.map(UserSnapshot::studentId))
+                    .containsExactly("20230001", "20240001", "20240002", "20250001");
+        }
+        assertThat(managedEntityCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("관리자 스냅샷은 사용자 컬럼을 조인해 한 번에 읽는다")
+    void projectsAdminSnapshots() {
+        List<AdminSnapshot> admins = adminRepository.findAllAdminSnapshots();
+
+        assertThat(admins).singleElement().satisfies(admin -> {
+            assertThat(admin.studentId()).isEqualTo("20230001");
+            assertThat(admin.batch()).isEqualTo(23);
+            assertThat(admin.role()).isEqualTo("PRESIDENT");
+        });
+        assertThat(managedEntityCount()).isZero();
+    }
+
+    // ========================== Private Methods ==========================
+
+    private User persistUser(String studentId, int batch, UserSessionType session, UserStatus status) {
+        return testEntityManager.persist(User.builder()
+                .studentId(studentId).username("user-" + studentId).password("password")
+                .email(studentId + "@nlweb.com").phone("010-" + studentId)
+                .batch(batch).session(session).status(status)
+                .build());
+    }
+
+    private int managedEntityCount() {
+        return testEntityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount();
+    }
+
+}